@@ -0,0 +1,225 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Day 1: Range Sum Queries
+ * Append-Only Streaming Prefix Index
+ *
+ * A prefix index for arrays that keep growing, such as time series. Prefix
+ * values are stored in fixed-size chunks, so appending never copies existing
+ * data; only the small chunk directory is copied when it fills up.
+ *
+ * Appends are serialized with a lock, while queries are lock-free and may run
+ * concurrently with ingest. A query sees every element whose append finished
+ * before the query read size(); the element count is published through a
+ * volatile write after the prefix value is stored.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class AppendOnlyPrefixIndex {
+
+    // Each chunk holds 2^CHUNK_SHIFT prefix values (512 KB)
+    static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // chunks[c][k] = prefix[(c << CHUNK_SHIFT) + k] = sum of the first (c << CHUNK_SHIFT) + k elements
+    private volatile long[][] chunks;
+    // Number of appended elements; prefix[0..size] are readable
+    private volatile long size;
+    // Running total, only touched while holding the append lock
+    private long runningSum;
+
+    /**
+     * Creates an empty index.
+     */
+    public AppendOnlyPrefixIndex() {
+        chunks = new long[4][];
+        chunks[0] = new long[CHUNK_SIZE];
+    }
+
+    /**
+     * @return number of elements appended so far
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Appends one element.
+     * Time Complexity: O(1) amortized
+     *
+     * @param value element to append
+     */
+    public synchronized void append(int value) {
+        store(size + 1, runningSum += value);
+        size++;
+    }
+
+    /**
+     * Appends all elements of the given array, publishing them together.
+     * Time Complexity: O(K) where K = values.length
+     *
+     * @param values elements to append in order
+     * @throws IllegalArgumentException if values is null
+     */
+    public synchronized void appendAll(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input Array cannot be null");
+        }
+
+        long next = size;
+        for (int value : values) {
+            store(++next, runningSum += value);
+        }
+        size = next;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed). Only elements
+     * already appended can be queried.
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public long sum(long L, long R) {
+        long currentSize = size;
+        if (L < 0 || R >= currentSize || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, currentSize)
+            );
+        }
+        // Reading the directory after size guarantees it covers prefix[R + 1]
+        long[][] directory = chunks;
+        return prefixAt(directory, R + 1) - prefixAt(directory, L);
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = sum(query[0], query[1]);
+        }
+    }
+
+    private static long prefixAt(long[][] directory, long i) {
+        return directory[(int) (i >>> CHUNK_SHIFT)][(int) (i & CHUNK_MASK)];
+    }
+
+    /**
+     * Writes prefix[i], adding a chunk (and growing the directory) when i starts a new one
+     */
+    private void store(long i, long value) {
+        int chunk = (int) (i >>> CHUNK_SHIFT);
+        long[][] directory = chunks;
+        if (chunk == directory.length) {
+            directory = Arrays.copyOf(directory, directory.length * 2);
+        }
+        if (directory[chunk] == null) {
+            directory[chunk] = new long[CHUNK_SIZE];
+            // Publish before size moves past the new chunk
+            chunks = directory;
+        }
+        directory[chunk][(int) (i & CHUNK_MASK)] = value;
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) throws InterruptedException {
+        // Test case 1: [1, 2, 3, 4, 5] built incrementally
+        AppendOnlyPrefixIndex index = new AppendOnlyPrefixIndex();
+        index.append(1);
+        index.append(2);
+        index.appendAll(new int[]{3, 4, 5});
+        int[][] B = {{0, 3}, {1, 2}};
+        long[] out = new long[B.length];
+
+        index.sumsInto(B, out);
+        System.out.println("Test case 1:");
+        System.out.println("Queries: " + Arrays.deepToString(B));
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [10, 5]");
+        System.out.println();
+
+        // Test case 2: query the freshly appended tail
+        index.append(6);
+        System.out.println("Test case 2 (after append(6)):");
+        System.out.println("Sum [4, 5]: " + index.sum(4, 5));
+        System.out.println("Expected: 11");
+        System.out.println();
+
+        // Concurrent ingest and query: element i has value i % 100, checked in closed form
+        AppendOnlyPrefixIndex stream = new AppendOnlyPrefixIndex();
+        long target = 20_000_000;
+        AtomicBoolean allMatch = new AtomicBoolean(true);
+
+        Thread writer = new Thread(() -> {
+            int[] batch = new int[1000];
+            for (long base = 0; base < target; base += batch.length) {
+                for (int k = 0; k < batch.length; k++) {
+                    batch[k] = (int) ((base + k) % 100);
+                }
+                stream.appendAll(batch);
+            }
+        });
+        Thread reader = new Thread(() -> {
+            long queries = 0;
+            while (stream.size() < target) {
+                long currentSize = stream.size();
+                if (currentSize == 0) {
+                    continue;
+                }
+                long R = currentSize - 1;
+                long L = R / 2;
+                if (stream.sum(L, R) != prefixOfPattern(R + 1) - prefixOfPattern(L)) {
+                    allMatch.set(false);
+                }
+                queries++;
+            }
+            System.out.println("Queries answered during ingest: " + queries);
+        });
+
+        long startTime = System.nanoTime();
+        writer.start();
+        reader.start();
+        writer.join();
+        reader.join();
+        long elapsed = System.nanoTime() - startTime;
+
+        System.out.println("Concurrent ingest of " + target + " elements:");
+        System.out.printf("Ingest time: %.2f ms%n", elapsed / 1_000_000.0);
+        System.out.println("Final total matches: "
+            + (stream.sum(0, target - 1) == prefixOfPattern(target)));
+        System.out.println("Results match: " + allMatch.get());
+    }
+
+    /**
+     * Sum of the first count elements of the pattern i % 100
+     */
+    private static long prefixOfPattern(long count) {
+        long fullCycles = count / 100, rest = count % 100;
+        return fullCycles * 4950 + rest * (rest - 1) / 2;
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Range Sum Queries
+ * Calibration Micro-Benchmark for the "auto" Method
+ *
+ * RangeSumQuery's "auto" method answers a batch by brute force when the
+ * total scanned length Σ(R - L + 1) is at most
+ * {@code RangeSumQuery.AUTO_BUILD_COST} times the span the queries touch.
+ * Otherwise it builds a prefix array over that span. For each array length,
+ * this benchmark sweeps batches of short random queries across that ratio
+ * and times auto's two branches, brute force and
+ * {@code RangeSumQuery.spanPrefixRSQ}, forced one at a time. It fits a line
+ * to each branch's time and reports the ratio where the lines cross. The
+ * median crossover over all lengths is the value to use for the constant.
+ * The sweep also times "auto" itself to confirm that it tracks the faster
+ * branch.
+ *
+ * Queries stay inside [1, n - 2], so the span never reaches both ends of
+ * the array and every length times the same sequential partial build. A
+ * full-span batch would switch to PrefixSumIndex, whose build goes parallel
+ * from 2^20 elements on multi-core machines, and mix two build costs into
+ * one fit.
+ *
+ * It also prints the raw per-element cost ratio: a full prefix build divided
+ * by a long sequential scan. That figure is only an upper bound, not the
+ * constant. Real batches are made of short ranges, and each one costs brute
+ * force a loop setup and a cache miss at a random start. Those per-range
+ * costs make brute force dearer per element, so the true crossover sits
+ * below the per-element ratio.
+ *
+ * Usage: java AutoMethodCalibration [length,length,...]
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public class AutoMethodCalibration {
+
+    private static final int ROUNDS = 15;
+    // Sweep points: scanned / span from 1/4 to 16, in steps of √2
+    private static final int SWEEP_POINTS = 13;
+    private static final int QUERY_LENGTH = 64;
+
+    public static void main(String[] args) {
+        String[] lengths = (args.length > 0 ? args[0] : "1000000,4000000,8000000").split(",");
+        double[] crossovers = new double[lengths.length];
+        for (int s = 0; s < lengths.length; s++) {
+            crossovers[s] = calibrate(Integer.parseInt(lengths[s].trim().replace("_", "")));
+            System.out.println();
+        }
+
+        Arrays.sort(crossovers);
+        int middle = crossovers.length / 2;
+        double median = crossovers.length % 2 == 1
+            ? crossovers[middle]
+            : (crossovers[middle - 1] + crossovers[middle]) / 2;
+        System.out.printf("Crossovers: %s%n", Arrays.toString(crossovers));
+        System.out.printf("Measured AUTO_BUILD_COST (median crossover): %.2f (configured: %.2f)%n",
+            median, RangeSumQuery.AUTO_BUILD_COST);
+    }
+
+    /**
+     * Runs the per-element measurement and the crossover sweep for one array length.
+     *
+     * @return scanned / span ratio at which the prefix build starts to win
+     */
+    private static double calibrate(int n) {
+        int[] A = new int[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            A[i] = random.nextInt(2001) - 1000;
+        }
+
+        // Per-element cost of a brute-force scan: a few long ranges covering the array
+        int[][] scanQueries = new int[8][];
+        for (int q = 0; q < scanQueries.length; q++) {
+            scanQueries[q] = new int[]{0, n - 1};
+        }
+        long[] out = new long[scanQueries.length];
+        double scanNanos = best(() -> RangeSumQuery.rangeSumQuery(A, scanQueries, "brute", out))
+            / ((double) n * scanQueries.length);
+
+        // Per-element cost of auto's prefix build: one query over the widest span short of both ends
+        int[][] buildQueries = {{1, n - 2}};
+        long[] single = new long[1];
+        double buildNanos = best(() -> RangeSumQuery.spanPrefixRSQ(A, buildQueries, single)) / (n - 2);
+
+        System.out.println("Calibration (" + n + " elements):");
+        System.out.printf("Brute-force scan: %.3f ns/element%n", scanNanos);
+        System.out.printf("Prefix build: %.3f ns/element%n", buildNanos);
+        System.out.printf("Per-element cost ratio (upper bound): %.2f%n", buildNanos / scanNanos);
+        System.out.println();
+
+        System.out.println("Crossover sweep (scanned / span, brute ms, prefix ms, auto ms):");
+        double[] ratios = new double[SWEEP_POINTS];
+        double[] bruteTimes = new double[SWEEP_POINTS];
+        double[] prefixTimes = new double[SWEEP_POINTS];
+        for (int p = 0; p < SWEEP_POINTS; p++) {
+            double ratio = 0.25 * Math.pow(2, p / 2.0);
+            int q = (int) Math.max(1, ratio * n / QUERY_LENGTH);
+            int[][] B = new int[q][];
+            for (int i = 0; i < q; i++) {
+                int L = 1 + random.nextInt(n - QUERY_LENGTH - 1);
+                B[i] = new int[]{L, L + QUERY_LENGTH - 1};
+            }
+            long[] results = new long[q];
+            double brute = best(() -> RangeSumQuery.rangeSumQuery(A, B, "brute", results)) / 1e6;
+            double prefix = best(() -> RangeSumQuery.spanPrefixRSQ(A, B, results)) / 1e6;
+            double auto = best(() -> RangeSumQuery.rangeSumQuery(A, B, "auto", results)) / 1e6;
+            System.out.printf("%6.3f  %8.3f  %8.3f  %8.3f%n", ratio, brute, prefix, auto);
+            ratios[p] = ratio;
+            bruteTimes[p] = brute;
+            prefixTimes[p] = prefix;
+        }
+
+        // Both costs are close to linear in the ratio. Least-squares lines over the
+        // whole sweep are far less noise-sensitive than the first point where the order flips.
+        double[] bruteLine = fitLine(ratios, bruteTimes);
+        double[] prefixLine = fitLine(ratios, prefixTimes);
+        double crossover = (prefixLine[0] - bruteLine[0]) / (bruteLine[1] - prefixLine[1]);
+        System.out.printf("Brute fit: %.3f + %.3f * ratio ms, prefix fit: %.3f + %.3f * ratio ms%n",
+            bruteLine[0], bruteLine[1], prefixLine[0], prefixLine[1]);
+        System.out.printf("Crossover: %.2f%n", crossover);
+        return crossover;
+    }
+
+    /**
+     * Ordinary least squares fit y ≈ intercept + slope * x
+     *
+     * @return {intercept, slope}
+     */
+    private static double[] fitLine(double[] x, double[] y) {
+        double meanX = 0, meanY = 0;
+        for (int i = 0; i < x.length; i++) {
+            meanX += x[i] / x.length;
+            meanY += y[i] / y.length;
+        }
+        double covariance = 0, variance = 0;
+        for (int i = 0; i < x.length; i++) {
+            covariance += (x[i] - meanX) * (y[i] - meanY);
+            variance += (x[i] - meanX) * (x[i] - meanX);
+        }
+        double slope = covariance / variance;
+        return new double[]{meanY - slope * meanX, slope};
+    }
+
+    /**
+     * Best-of-ROUNDS wall time in nanoseconds, after a warmup pass
+     */
+    private static double best(Runnable task) {
+        for (int round = 0; round < ROUNDS; round++) {
+            task.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startTime = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - startTime);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,295 @@
+import java.util.Arrays;
+
+/**
+ * Day 1: Subarray Sums
+ * Cached Contribution-Weight Tables
+ *
+ * The contribution weights (i + 1) * (n - i) depend only on the array length
+ * n, so callers that repeatedly process same-length windows can share one
+ * table per length instead of rebuilding it on every call. This cache holds
+ * long-typed tables (no int overflow for any n) keyed by n, bounded both by
+ * entry count and by total bytes, and evicts the least recently used table
+ * when either limit is exceeded. A length whose table alone exceeds the byte
+ * cap is computed fresh on every call and never cached.
+ *
+ * Lookups scan a small fixed set of slots and allocate nothing, so once a
+ * length is cached, later calls neither allocate nor recompute weights.
+ * Cached tables are shared by every caller of the process-wide cache, so
+ * they are not exposed outside this package: weights() is package-private
+ * and only the SubArraySum kernels read from it, while other callers use
+ * dot().
+ * Cache bookkeeping is synchronized, so one cache can be shared between
+ * threads; tables are computed outside the lock.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class ContributionWeights {
+
+    public static final int DEFAULT_MAX_TABLES = 16;
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    private static final ContributionWeights SHARED =
+        new ContributionWeights(DEFAULT_MAX_TABLES, DEFAULT_MAX_BYTES);
+
+    private final long maxBytes;
+    // Slot s holds the table for lengths[s], last touched at tick lastUsed[s]
+    private final int[] lengths;
+    private final long[][] tables;
+    private final long[] lastUsed;
+    private int size;
+    private long bytes;
+    private long clock;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param maxTables maximum number of cached tables
+     * @param maxBytes  maximum total size of the cached tables in bytes
+     * @throws IllegalArgumentException if either limit is not positive
+     */
+    public ContributionWeights(int maxTables, long maxBytes) {
+        if (maxTables <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache limits must be positive");
+        }
+        this.maxBytes = maxBytes;
+        lengths = new int[maxTables];
+        tables = new long[maxTables][];
+        lastUsed = new long[maxTables];
+    }
+
+    /**
+     * @return process-wide cache with the default limits
+     */
+    public static ContributionWeights shared() {
+        return SHARED;
+    }
+
+    /**
+     * Sum of all subarray sums of arr: Σ arr[i] * (i + 1) * (n - i), using the
+     * cached table for arr.length. The lock is only held for the table lookup.
+     * Time Complexity: O(n)
+     *
+     * @param arr input array
+     * @return weighted sum in long, wrapping on overflow
+     * @throws IllegalArgumentException if arr is null
+     */
+    public long dot(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+
+        long[] table = weights(arr.length);
+        long totalSum = 0;
+        for (int i = 0; i < arr.length; i++) {
+            totalSum += arr[i] * table[i];
+        }
+        return totalSum;
+    }
+
+    /**
+     * Weight table for arrays of length n: table[i] = (i + 1) * (n - i).
+     * The table is shared with every other caller and must not be written.
+     * A miss computes the table without holding the lock, so other lookups
+     * are not blocked behind an O(n) fill. Two threads missing on the same
+     * length may both compute it; the first to insert wins.
+     * Time Complexity: O(maxTables) on a hit, O(n) on a miss
+     *
+     * @param n array length
+     * @return shared weight table of length n
+     * @throws IllegalArgumentException if n is negative
+     */
+    long[] weights(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Array length cannot be negative");
+        }
+
+        long[] cached = lookup(n, true);
+        if (cached != null) {
+            return cached;
+        }
+        return insert(n, compute(n));
+    }
+
+    /**
+     * Returns the cached table for n and marks it most recently used, or null.
+     * Only the first lookup of a call is recorded in the hit and miss counts.
+     */
+    private synchronized long[] lookup(int n, boolean record) {
+        for (int s = 0; s < size; s++) {
+            if (lengths[s] == n) {
+                lastUsed[s] = ++clock;
+                if (record) {
+                    hits++;
+                }
+                return tables[s];
+            }
+        }
+        if (record) {
+            misses++;
+        }
+        return null;
+    }
+
+    /**
+     * Caches a freshly computed table, unless another thread cached one for n first
+     */
+    private synchronized long[] insert(int n, long[] table) {
+        long[] cached = lookup(n, false);
+        if (cached != null) {
+            return cached;
+        }
+        long tableBytes = 8L * n;
+        if (tableBytes > maxBytes) {
+            return table;
+        }
+        while (size == lengths.length || bytes + tableBytes > maxBytes) {
+            evictLeastRecentlyUsed();
+        }
+        lengths[size] = n;
+        tables[size] = table;
+        lastUsed[size] = ++clock;
+        size++;
+        bytes += tableBytes;
+        return table;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        int oldest = 0;
+        for (int s = 1; s < size; s++) {
+            if (lastUsed[s] < lastUsed[oldest]) {
+                oldest = s;
+            }
+        }
+        bytes -= 8L * lengths[oldest];
+        size--;
+        // Move the last slot into the hole so occupied slots stay contiguous
+        lengths[oldest] = lengths[size];
+        tables[oldest] = tables[size];
+        lastUsed[oldest] = lastUsed[size];
+        tables[size] = null;
+    }
+
+    /**
+     * Fills the first half and mirrors it, since weight[i] = weight[n - 1 - i]
+     */
+    private static long[] compute(int n) {
+        long[] table = new long[n];
+        for (int i = 0; i < (n + 1) / 2; i++) {
+            long weight = (long) (i + 1) * (n - i);
+            table[i] = weight;
+            table[n - 1 - i] = weight;
+        }
+        return table;
+    }
+
+    /**
+     * @return number of cached tables
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return total size of the cached tables in bytes
+     */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return lookups answered from the cache
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * @return lookups that had to compute a table
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) throws InterruptedException {
+        // Test case 1: weights for n = 5
+        ContributionWeights cache = new ContributionWeights(2, 1 << 10);
+        System.out.println("Test case 1:");
+        System.out.println("Weights(5): " + Arrays.toString(cache.weights(5)));
+        System.out.println("Expected: [5, 8, 9, 8, 5]");
+        System.out.println();
+
+        // Test case 2: repeated lookups return the same table
+        System.out.println("Test case 2:");
+        System.out.println("Same table on second lookup: " + (cache.weights(5) == cache.weights(5)));
+        System.out.println("Hits: " + cache.hits() + ", misses: " + cache.misses());
+        System.out.println("Expected: true, hits 2, misses 1");
+        System.out.println();
+
+        // Test case 3: LRU eviction by table count (limit 2) and by bytes (limit 1 KB = 128 longs)
+        System.out.println("Test case 3:");
+        cache.weights(6);     // cache: {5, 6}
+        cache.weights(5);     // touch 5, so 6 is now least recently used
+        cache.weights(7);     // evicts 6
+        long before = cache.misses();
+        cache.weights(5);
+        System.out.println("5 still cached: " + (cache.misses() == before));
+        cache.weights(6);
+        System.out.println("6 was evicted: " + (cache.misses() == before + 1));
+        cache.weights(100);   // 800 bytes: evicts tables until it fits
+        System.out.println("Size after caching n = 100: " + cache.size() + " tables, " + cache.bytes() + " bytes");
+        cache.weights(200);   // 1600 bytes: larger than the cap, never cached
+        System.out.println("Size after n = 200: " + cache.size() + " tables, " + cache.bytes() + " bytes");
+        System.out.println("Expected: true, true, 2 tables at most 1024 bytes, n = 200 not cached");
+        System.out.println();
+
+        // Test case 4: long weights do not overflow for large n
+        int n = 100_000;
+        long[] weights = cache.weights(n);
+        System.out.println("Test case 4:");
+        System.out.println("Middle weight for n = " + n + ": " + weights[n / 2]);
+        System.out.println("Expected: " + (long) (n / 2 + 1) * (n - n / 2));
+        System.out.println();
+
+        // Test case 5: dot product over the cached table
+        System.out.println("Test case 5:");
+        System.out.println("dot([1, 2, 3]): " + cache.dot(new int[]{1, 2, 3}));
+        System.out.println("Expected: 20");
+        System.out.println();
+
+        // Test case 6: threads missing on the same length concurrently end up sharing one cached table
+        ContributionWeights concurrent = new ContributionWeights(4, 64L << 20);
+        long[][] seen = new long[4][];
+        Thread[] threads = new Thread[seen.length];
+        for (int t = 0; t < threads.length; t++) {
+            int slot = t;
+            threads[t] = new Thread(() -> {
+                concurrent.weights(1_000_000);
+                seen[slot] = concurrent.weights(1_000_000);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        boolean shared = true;
+        for (long[] table : seen) {
+            shared &= table == seen[0];
+        }
+        System.out.println("Test case 6:");
+        System.out.println("Tables cached: " + concurrent.size() + ", same table everywhere: " + shared
+            + ", lookups counted: " + (concurrent.hits() + concurrent.misses()));
+        System.out.println("Expected: 1, true, 8");
+        System.out.println();
+
+        // Steady state: cached lookups allocate nothing
+        int[] large = new int[1_000_000];
+        Arrays.fill(large, 1);
+        MicroBenchmark harness = new MicroBenchmark(2, 3, 200);
+        MicroBenchmark.printHeader();
+        MicroBenchmark.print(harness.run("cached dot(1_000_000)", () -> shared().dot(large)));
+    }
+}
@@ -0,0 +1,207 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Range Sum Queries
+ * Compensated Floating-Point Prefix Index
+ *
+ * A plain double[] prefix array loses precision twice: rounding error piles
+ * up as the running total grows, and sum[L:R] = prefix[R+1] - prefix[L]
+ * subtracts two large, nearly equal numbers, which cancels most of the
+ * correct digits of a short range far from the start. This index keeps each
+ * prefix as an unevaluated pair (high + low) built with Neumaier's
+ * compensated summation. Range sums subtract the high words exactly with
+ * Knuth's two-sum, so the error stays within a few ulps of the result
+ * instead of growing with the array length.
+ * Instances are immutable and safe to share between threads.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class DoublePrefixSumIndex {
+
+    // prefix[i] = sum of the first i elements = prefixHigh[i] + prefixLow[i]
+    private final double[] prefixHigh;
+    private final double[] prefixLow;
+
+    /**
+     * Builds the index with Neumaier summation.
+     * Time Complexity: O(N)
+     * Space Complexity: O(N), two doubles per prefix
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public DoublePrefixSumIndex(double[] A) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        int n = A.length;
+        prefixHigh = new double[n + 1];
+        prefixLow = new double[n + 1];
+        double sum = 0, compensation = 0;
+        for (int i = 0; i < n; i++) {
+            double value = A[i];
+            double t = sum + value;
+            // Recover the low-order bits lost by the addition from whichever operand was smaller
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+            prefixHigh[i + 1] = sum;
+            prefixLow[i + 1] = compensation;
+        }
+    }
+
+    /**
+     * @return number of elements covered by the index
+     */
+    public int length() {
+        return prefixHigh.length - 1;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed).
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public double sum(int L, int R) {
+        if (L < 0 || R >= length() || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, length())
+            );
+        }
+
+        // Two-sum: difference + error is exactly prefixHigh[R + 1] - prefixHigh[L]
+        double a = prefixHigh[R + 1], b = -prefixHigh[L];
+        double difference = a + b;
+        double bVirtual = difference - a;
+        double error = (a - (difference - bVirtual)) + (b - bVirtual);
+        return difference + (error + (prefixLow[R + 1] - prefixLow[L]));
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void sumsInto(int[][] B, double[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = sum(query[0], query[1]);
+        }
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [0.1, 0.2, 0.3, 0.4, 0.5] with queries [[0, 3], [1, 2]]
+        DoublePrefixSumIndex small = new DoublePrefixSumIndex(new double[]{0.1, 0.2, 0.3, 0.4, 0.5});
+        int[][] B1 = {{0, 3}, {1, 2}};
+        double[] out1 = new double[B1.length];
+        small.sumsInto(B1, out1);
+
+        System.out.println("Test case 1:");
+        System.out.println("Queries: " + Arrays.deepToString(B1));
+        System.out.println("Result: " + Arrays.toString(out1));
+        System.out.println("Expected: [1.0, 0.5]");
+        System.out.println();
+
+        // Sensor-like data: large offset plus small noise. Values are multiples of
+        // 2^-20, so exact range sums can be computed in long fixed point as a reference.
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        double scale = 1 << 20;
+        long[] ticks = new long[n];
+        double[] A = new double[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            ticks[i] = 1000L * (1 << 20) + (long) (random.nextGaussian() * 1000);
+            A[i] = ticks[i] / scale;
+        }
+        long[] exactPrefix = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            exactPrefix[i + 1] = exactPrefix[i] + ticks[i];
+        }
+
+        // Throughput: naive prefix vs compensated prefix, build and queries
+        long naiveBuild = Long.MAX_VALUE, compensatedBuild = Long.MAX_VALUE;
+        double[] naive = null;
+        DoublePrefixSumIndex index = null;
+        for (int round = 0; round < 5; round++) {
+            long startTime = System.nanoTime();
+            naive = new double[n + 1];
+            for (int i = 0; i < n; i++) {
+                naive[i + 1] = naive[i] + A[i];
+            }
+            naiveBuild = Math.min(naiveBuild, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            index = new DoublePrefixSumIndex(A);
+            compensatedBuild = Math.min(compensatedBuild, System.nanoTime() - startTime);
+        }
+
+        int q = 1_000_000;
+        int[][] queries = new int[q][];
+        for (int i = 0; i < q; i++) {
+            int L = random.nextInt(n);
+            // Mostly short windows near arbitrary offsets, where cancellation hurts most
+            int length = random.nextInt(4) == 0 ? random.nextInt(n - L) : random.nextInt(Math.min(100, n - L));
+            queries[i] = new int[]{L, L + length};
+        }
+        double[] naiveResults = new double[q], compensatedResults = new double[q];
+        long naiveQuery = Long.MAX_VALUE, compensatedQuery = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long startTime = System.nanoTime();
+            for (int i = 0; i < q; i++) {
+                naiveResults[i] = naive[queries[i][1] + 1] - naive[queries[i][0]];
+            }
+            naiveQuery = Math.min(naiveQuery, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            index.sumsInto(queries, compensatedResults);
+            compensatedQuery = Math.min(compensatedQuery, System.nanoTime() - startTime);
+        }
+
+        // Error: relative to the exact fixed-point sum
+        double naiveMaxError = 0, compensatedMaxError = 0, naiveMeanError = 0, compensatedMeanError = 0;
+        for (int i = 0; i < q; i++) {
+            int L = queries[i][0], R = queries[i][1];
+            double exact = (exactPrefix[R + 1] - exactPrefix[L]) / scale;
+            double naiveError = Math.abs(naiveResults[i] - exact) / Math.abs(exact);
+            double compensatedError = Math.abs(compensatedResults[i] - exact) / Math.abs(exact);
+            naiveMaxError = Math.max(naiveMaxError, naiveError);
+            compensatedMaxError = Math.max(compensatedMaxError, compensatedError);
+            naiveMeanError += naiveError / q;
+            compensatedMeanError += compensatedError / q;
+        }
+
+        System.out.println("Sensor data (" + n + " elements, " + q + " queries):");
+        System.out.printf("Naive build: %.2f ms, compensated build: %.2f ms%n",
+            naiveBuild / 1_000_000.0, compensatedBuild / 1_000_000.0);
+        System.out.printf("Naive queries: %.2f ms, compensated queries: %.2f ms%n",
+            naiveQuery / 1_000_000.0, compensatedQuery / 1_000_000.0);
+        System.out.printf("Naive relative error: max %.3e, mean %.3e%n", naiveMaxError, naiveMeanError);
+        System.out.printf("Compensated relative error: max %.3e, mean %.3e%n", compensatedMaxError, compensatedMeanError);
+    }
+}
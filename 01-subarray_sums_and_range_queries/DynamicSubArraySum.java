@@ -0,0 +1,432 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Subarray Sums
+ * Updatable Total of All Subarray Sums
+ *
+ * Keeps the sum of all subarray sums current under point updates, inserts
+ * and deletes. An insert or delete changes the position, and therefore the
+ * weight (k+1) * (n-k), of every later element. So the elements live in an
+ * implicit treap: a randomized balanced tree ordered by position, where a
+ * node's index is the size of everything to its left. Every node stores
+ * three moments of its subtree's elements, with j the position inside the
+ * subtree:
+ *   s0 = Σ a_j,  s1 = Σ j * a_j,  s2 = Σ j² * a_j
+ * A subtree of c elements then totals -s2 + (c-1) * s1 + c * s0, since the
+ * weight (j+1) * (c-j) expands to -j² + (c-1)j + c. Joining a left part L,
+ * a value v and a right part R shifts R's positions by off = L.count + 1:
+ *   s0 = L.s0 + v + R.s0
+ *   s1 = L.s1 + L.count * v + R.s1 + off * R.s0
+ *   s2 = L.s2 + L.count² * v + R.s2 + 2 * off * R.s1 + off² * R.s0
+ * Every operation splits and re-merges O(log n) nodes (expected), fixing up
+ * the moments along the way.
+ *
+ * Nodes are kept in parallel primitive arrays with a free list, so the tree
+ * holds no per-node objects. Arithmetic is in long and exact modulo 2^64.
+ * Instances are mutable and not thread-safe; guard them externally when sharing.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class DynamicSubArraySum {
+
+    // Node 0 is the empty tree: count 0 and all moments 0
+    private int[] left;
+    private int[] right;
+    private int[] priority;
+    private int[] count;
+    private long[] value;
+    private long[] s0;
+    private long[] s1;
+    private long[] s2;
+
+    private int root;
+    // Next never-used node slot, and the head of the free list threaded through right[]
+    private int nextNode = 1;
+    private int freeList;
+    // Results of the last split()
+    private int splitLeft;
+    private int splitRight;
+    private long seed = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Creates an empty sequence.
+     */
+    public DynamicSubArraySum() {
+        this(new int[0]);
+    }
+
+    /**
+     * Builds the sequence from the given array in linear time, by laying the
+     * nodes out as a Cartesian tree on their random priorities with a stack.
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @param A initial elements
+     * @throws IllegalArgumentException if A is null
+     */
+    public DynamicSubArraySum(int[] A) {
+        if (A == null) {
+            throw new IllegalArgumentException("Input Array A cannot be null");
+        }
+
+        allocate(A.length + 1);
+        int[] stack = new int[A.length];
+        int top = 0;
+        for (int value : A) {
+            int node = newNode(value);
+            int last = 0;
+            while (top > 0 && priority[stack[top - 1]] < priority[node]) {
+                last = stack[--top];
+            }
+            left[node] = last;
+            if (top > 0) {
+                right[stack[top - 1]] = node;
+            }
+            stack[top++] = node;
+        }
+        root = top > 0 ? stack[0] : 0;
+        pullAll(root);
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return count[root];
+    }
+
+    /**
+     * Time Complexity: O(1)
+     *
+     * @return sum of all subarray sums of the current sequence
+     */
+    public long total() {
+        long c = count[root];
+        return -s2[root] + (c - 1) * s1[root] + c * s0[root];
+    }
+
+    /**
+     * Time Complexity: O(log n) expected
+     *
+     * @param i element index (0-indexed)
+     * @return element at index i
+     * @throws IllegalArgumentException if i is out of bounds
+     */
+    public int get(int i) {
+        checkIndex(i, size());
+        int node = root;
+        while (true) {
+            int leftCount = count[left[node]];
+            if (i < leftCount) {
+                node = left[node];
+            } else if (i == leftCount) {
+                return (int) value[node];
+            } else {
+                i -= leftCount + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Replaces the element at index i.
+     * Time Complexity: O(log n) expected
+     *
+     * @param i     element index (0-indexed)
+     * @param value new value
+     * @throws IllegalArgumentException if i is out of bounds
+     */
+    public void set(int i, int value) {
+        checkIndex(i, size());
+        root = set(root, i, value);
+    }
+
+    private int set(int node, int i, int newValue) {
+        int leftCount = count[left[node]];
+        if (i < leftCount) {
+            left[node] = set(left[node], i, newValue);
+        } else if (i == leftCount) {
+            value[node] = newValue;
+        } else {
+            right[node] = set(right[node], i - leftCount - 1, newValue);
+        }
+        pull(node);
+        return node;
+    }
+
+    /**
+     * Inserts value so that it becomes the element at index i, shifting later elements right.
+     * Time Complexity: O(log n) expected
+     *
+     * @param i     insertion index, 0 to size() inclusive
+     * @param value element to insert
+     * @throws IllegalArgumentException if i is out of bounds
+     */
+    public void insert(int i, int value) {
+        checkIndex(i, size() + 1);
+        int node = newNode(value);
+        pull(node);
+        split(root, i);
+        int after = splitRight;
+        root = merge(merge(splitLeft, node), after);
+    }
+
+    /**
+     * Removes the element at index i, shifting later elements left.
+     * Time Complexity: O(log n) expected
+     *
+     * @param i element index (0-indexed)
+     * @return removed element
+     * @throws IllegalArgumentException if i is out of bounds
+     */
+    public int delete(int i) {
+        checkIndex(i, size());
+        split(root, i);
+        int before = splitLeft;
+        split(splitRight, 1);
+        int removed = splitLeft;
+        root = merge(before, splitRight);
+
+        int removedValue = (int) value[removed];
+        right[removed] = freeList;
+        freeList = removed;
+        return removedValue;
+    }
+
+    /**
+     * Copies the current sequence in order.
+     * Time Complexity: O(n)
+     *
+     * @return new array holding the elements
+     */
+    public int[] toArray() {
+        int[] contents = new int[size()];
+        int[] stack = new int[size()];
+        int top = 0, index = 0, node = root;
+        while (node != 0 || top > 0) {
+            while (node != 0) {
+                stack[top++] = node;
+                node = left[node];
+            }
+            node = stack[--top];
+            contents[index++] = (int) value[node];
+            node = right[node];
+        }
+        return contents;
+    }
+
+    /**
+     * Splits the tree at node into its first k elements (splitLeft) and the rest (splitRight)
+     */
+    private void split(int node, int k) {
+        if (node == 0) {
+            splitLeft = 0;
+            splitRight = 0;
+            return;
+        }
+        int leftCount = count[left[node]];
+        if (k <= leftCount) {
+            split(left[node], k);
+            left[node] = splitRight;
+            pull(node);
+            splitRight = node;
+        } else {
+            split(right[node], k - leftCount - 1);
+            right[node] = splitLeft;
+            pull(node);
+            splitLeft = node;
+        }
+    }
+
+    /**
+     * Concatenates two trees, keeping the higher priority on top
+     */
+    private int merge(int a, int b) {
+        if (a == 0 || b == 0) {
+            return a | b;
+        }
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            pull(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        pull(b);
+        return b;
+    }
+
+    /**
+     * Recomputes count and moments of node from its children
+     */
+    private void pull(int node) {
+        int l = left[node], r = right[node];
+        long leftCount = count[l], offset = leftCount + 1, v = value[node];
+        count[node] = count[l] + 1 + count[r];
+        s0[node] = s0[l] + v + s0[r];
+        s1[node] = s1[l] + leftCount * v + s1[r] + offset * s0[r];
+        s2[node] = s2[l] + leftCount * leftCount * v + s2[r]
+            + 2 * offset * s1[r] + offset * offset * s0[r];
+    }
+
+    /**
+     * Post-order pull over a freshly built subtree
+     */
+    private void pullAll(int node) {
+        if (node != 0) {
+            pullAll(left[node]);
+            pullAll(right[node]);
+            pull(node);
+        }
+    }
+
+    private int newNode(int v) {
+        int node;
+        if (freeList != 0) {
+            node = freeList;
+            freeList = right[node];
+        } else {
+            if (nextNode == left.length) {
+                allocate(2 * left.length);
+            }
+            node = nextNode++;
+        }
+        left[node] = 0;
+        right[node] = 0;
+        value[node] = v;
+        // xorshift64 priorities; fixed seed keeps the tree shape reproducible
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        priority[node] = (int) (seed >>> 32);
+        return node;
+    }
+
+    private void allocate(int capacity) {
+        capacity = Math.max(capacity, 2);
+        if (left == null) {
+            left = new int[capacity];
+            right = new int[capacity];
+            priority = new int[capacity];
+            count = new int[capacity];
+            value = new long[capacity];
+            s0 = new long[capacity];
+            s1 = new long[capacity];
+            s2 = new long[capacity];
+            return;
+        }
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        count = Arrays.copyOf(count, capacity);
+        value = Arrays.copyOf(value, capacity);
+        s0 = Arrays.copyOf(s0, capacity);
+        s1 = Arrays.copyOf(s1, capacity);
+        s2 = Arrays.copyOf(s2, capacity);
+    }
+
+    private static void checkIndex(int i, int limit) {
+        if (i < 0 || i >= limit) {
+            throw new IllegalArgumentException(
+                String.format("Invalid index %d for array of length %d", i, limit)
+            );
+        }
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3] then edits
+        DynamicSubArraySum dynamic = new DynamicSubArraySum(new int[]{1, 2, 3});
+        System.out.println("Test case 1:");
+        System.out.println("Array: " + Arrays.toString(dynamic.toArray()) + ", total = " + dynamic.total());
+        dynamic.set(0, 2);       // [2, 2, 3]
+        dynamic.insert(1, -1);   // [2, -1, 2, 3]
+        dynamic.delete(3);       // [2, -1, 2]
+        System.out.println("After set(0, 2), insert(1, -1), delete(3): "
+            + Arrays.toString(dynamic.toArray()) + ", total = " + dynamic.total());
+        System.out.println("Expected: [1, 2, 3], total = 20; then [2, -1, 2], total = 8");
+        System.out.println();
+
+        // Randomized edit workload checked against a plain array and cached_contribution
+        Random random = new Random(42);
+        int[] plain = new int[0];
+        DynamicSubArraySum checked = new DynamicSubArraySum();
+        boolean allMatch = true;
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(3);
+            int v = random.nextInt();
+            if (op == 0 || plain.length == 0) {
+                int i = random.nextInt(plain.length + 1);
+                checked.insert(i, v);
+                int[] grown = new int[plain.length + 1];
+                System.arraycopy(plain, 0, grown, 0, i);
+                grown[i] = v;
+                System.arraycopy(plain, i, grown, i + 1, plain.length - i);
+                plain = grown;
+            } else if (op == 1) {
+                int i = random.nextInt(plain.length);
+                checked.set(i, v);
+                plain[i] = v;
+            } else {
+                int i = random.nextInt(plain.length);
+                allMatch &= checked.delete(i) == plain[i];
+                int[] shrunk = new int[plain.length - 1];
+                System.arraycopy(plain, 0, shrunk, 0, i);
+                System.arraycopy(plain, i + 1, shrunk, i, plain.length - i - 1);
+                plain = shrunk;
+            }
+            allMatch &= checked.total() == SubArraySum.SubarraySum.cached_contribution(plain);
+            if (step % 1000 == 0) {
+                allMatch &= Arrays.equals(checked.toArray(), plain);
+                allMatch &= plain.length == 0 || checked.get(plain.length / 2) == plain[plain.length / 2];
+            }
+        }
+        System.out.println("Randomized check against a plain array (20000 edits):");
+        System.out.println("Results match: " + allMatch);
+        System.out.println();
+
+        // Performance comparison: O(log n) edits vs O(n) recomputation per edit
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int edits = 100_000;
+        int[] A = new int[n];
+        for (int i = 0; i < n; i++) {
+            A[i] = random.nextInt(2001) - 1000;
+        }
+        long startTime = System.nanoTime();
+        DynamicSubArraySum large = new DynamicSubArraySum(A);
+        long buildTime = System.nanoTime() - startTime;
+
+        long sink = 0;
+        startTime = System.nanoTime();
+        for (int e = 0; e < edits; e++) {
+            int i = random.nextInt(large.size());
+            switch (e % 3) {
+                case 0:
+                    large.set(i, random.nextInt(2001) - 1000);
+                    break;
+                case 1:
+                    large.insert(i, random.nextInt(2001) - 1000);
+                    break;
+                default:
+                    large.delete(i);
+            }
+            sink += large.total();
+        }
+        long editTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (int e = 0; e < 100; e++) {
+            sink += SubArraySum.SubarraySum.cached_contribution(A);
+        }
+        long recomputeTime = (System.nanoTime() - startTime) / 100;
+
+        System.out.println("Performance (" + n + " elements, " + edits + " mixed edits):");
+        System.out.printf("Build: %.2f ms%n", buildTime / 1_000_000.0);
+        System.out.printf("Edit + total(): %.2f μs per edit%n", editTime / 1_000.0 / edits);
+        System.out.printf("Full recomputation: %.2f μs per edit%n", recomputeTime / 1_000.0);
+        System.out.println("(checksum " + sink + ")");
+    }
+}
@@ -0,0 +1,216 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Range Sum Queries
+ * Fenwick Tree (Binary Indexed Tree)
+ *
+ * Supports point updates and range sums in O(log N), so arrays that change
+ * between queries no longer force a full prefix rebuild. Instances are
+ * mutable and not thread-safe; guard them externally when sharing.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class FenwickTree {
+
+    // 1-indexed tree: tree[i] holds the sum of A[i - lowbit(i), i - 1]
+    private final long[] tree;
+    // Current element values, needed to turn set() into a delta update
+    private final long[] values;
+
+    /**
+     * Builds the tree from the given array in linear time by pushing each
+     * node's partial sum to its parent once.
+     * Time Complexity: O(N)
+     * Space Complexity: O(N)
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public FenwickTree(int[] A) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        int n = A.length;
+        tree = new long[n + 1];
+        values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = A[i];
+            tree[i + 1] = A[i];
+        }
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * @return number of elements in the tree
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Adds delta to the element at index i.
+     * Time Complexity: O(log N)
+     *
+     * @param i     element index (0-indexed)
+     * @param delta amount to add
+     * @throws IllegalArgumentException if i is out of bounds
+     */
+    public void add(int i, long delta) {
+        checkIndex(i);
+        values[i] += delta;
+        for (int k = i + 1; k < tree.length; k += k & -k) {
+            tree[k] += delta;
+        }
+    }
+
+    /**
+     * Replaces the element at index i.
+     * Time Complexity: O(log N)
+     *
+     * @param i     element index (0-indexed)
+     * @param value new value
+     * @throws IllegalArgumentException if i is out of bounds
+     */
+    public void set(int i, long value) {
+        checkIndex(i);
+        add(i, value - values[i]);
+    }
+
+    /**
+     * @param i element index (0-indexed)
+     * @return current value of the element at index i
+     */
+    public long get(int i) {
+        checkIndex(i);
+        return values[i];
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed).
+     * Time Complexity: O(log N)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public long sum(int L, int R) {
+        if (L < 0 || R >= length() || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, length())
+            );
+        }
+        return prefixSum(R + 1) - prefixSum(L);
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array.
+     * Time Complexity: O(Q log N) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = sum(query[0], query[1]);
+        }
+    }
+
+    /**
+     * Sum of the first count elements
+     */
+    private long prefixSum(int count) {
+        long total = 0;
+        for (int k = count; k > 0; k -= k & -k) {
+            total += tree[k];
+        }
+        return total;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= length()) {
+            throw new IllegalArgumentException(
+                String.format("Invalid index %d for array of length %d", i, length())
+            );
+        }
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3, 4, 5] with queries [[0, 3], [1, 2]]
+        FenwickTree fenwick = new FenwickTree(new int[]{1, 2, 3, 4, 5});
+        int[][] B = {{0, 3}, {1, 2}};
+        long[] out = new long[B.length];
+
+        fenwick.sumsInto(B, out);
+        System.out.println("Test case 1:");
+        System.out.println("Queries: " + Arrays.deepToString(B));
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [10, 5]");
+        System.out.println();
+
+        // Test case 2: updates are reflected without rebuilding
+        fenwick.add(1, 10);   // [1, 12, 3, 4, 5]
+        fenwick.set(3, -4);   // [1, 12, 3, -4, 5]
+
+        fenwick.sumsInto(B, out);
+        System.out.println("Test case 2 (after add(1, 10) and set(3, -4)):");
+        System.out.println("Queries: " + Arrays.deepToString(B));
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [12, 15]");
+        System.out.println();
+
+        // Mixed update/query workload checked against a plain array
+        System.out.println("Randomized check against a plain array:");
+        Random random = new Random(42);
+        int[] base = new int[1000];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = random.nextInt(2001) - 1000;
+        }
+        long[] mirror = new long[base.length];
+        for (int i = 0; i < base.length; i++) {
+            mirror[i] = base[i];
+        }
+        FenwickTree tree = new FenwickTree(base);
+
+        boolean allMatch = true;
+        for (int step = 0; step < 10000; step++) {
+            int i = random.nextInt(base.length);
+            if (random.nextBoolean()) {
+                long value = random.nextInt(2001) - 1000;
+                tree.set(i, value);
+                mirror[i] = value;
+            } else {
+                int j = i + random.nextInt(base.length - i);
+                long expected = 0;
+                for (int k = i; k <= j; k++) {
+                    expected += mirror[k];
+                }
+                allMatch &= tree.sum(i, j) == expected;
+            }
+        }
+        System.out.println("Results match: " + allMatch);
+    }
+}
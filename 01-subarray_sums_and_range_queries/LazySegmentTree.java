@@ -0,0 +1,284 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Range Sum Queries
+ * Segment Tree with Lazy Propagation
+ *
+ * Handles bulk adjustments such as "add 5 to every element in [L, R]" or
+ * "set every element in [L, R] to 0" in O(log N) instead of touching each
+ * element. Pending updates are stored on the covering nodes and only pushed
+ * to the children when a later operation needs to descend past them.
+ * Instances are mutable and not thread-safe.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class LazySegmentTree {
+
+    private final int n;
+    // sum[node] = sum of the segment covered by node, pending updates included
+    private final long[] sum;
+    // Pending "add" for the children of node
+    private final long[] addLazy;
+    // Pending "assign" for the children of node, valid only when hasAssign[node]
+    private final long[] assignLazy;
+    private final boolean[] hasAssign;
+
+    /**
+     * Builds the tree from the given array.
+     * Time Complexity: O(N)
+     * Space Complexity: O(N), four slots per element
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public LazySegmentTree(int[] A) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        n = A.length;
+        sum = new long[4 * n];
+        addLazy = new long[4 * n];
+        assignLazy = new long[4 * n];
+        hasAssign = new boolean[4 * n];
+        build(A, 1, 0, n - 1);
+    }
+
+    /**
+     * @return number of elements in the tree
+     */
+    public int length() {
+        return n;
+    }
+
+    /**
+     * Adds delta to every element from L to R (inclusive, 0-indexed).
+     * Time Complexity: O(log N)
+     *
+     * @param L     left index
+     * @param R     right index
+     * @param delta amount to add
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public void rangeAdd(int L, int R, long delta) {
+        checkRange(L, R);
+        add(1, 0, n - 1, L, R, delta);
+    }
+
+    /**
+     * Sets every element from L to R (inclusive, 0-indexed) to value.
+     * Time Complexity: O(log N)
+     *
+     * @param L     left index
+     * @param R     right index
+     * @param value new value
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public void rangeAssign(int L, int R, long value) {
+        checkRange(L, R);
+        assign(1, 0, n - 1, L, R, value);
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed).
+     * Time Complexity: O(log N)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public long sum(int L, int R) {
+        checkRange(L, R);
+        return query(1, 0, n - 1, L, R);
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array.
+     * Time Complexity: O(Q log N) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = sum(query[0], query[1]);
+        }
+    }
+
+    private void build(int[] A, int node, int lo, int hi) {
+        if (lo == hi) {
+            sum[node] = A[lo];
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(A, 2 * node, lo, mid);
+        build(A, 2 * node + 1, mid + 1, hi);
+        sum[node] = sum[2 * node] + sum[2 * node + 1];
+    }
+
+    private void add(int node, int lo, int hi, int L, int R, long delta) {
+        if (R < lo || hi < L) {
+            return;
+        }
+        if (L <= lo && hi <= R) {
+            applyAdd(node, lo, hi, delta);
+            return;
+        }
+        pushDown(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        add(2 * node, lo, mid, L, R, delta);
+        add(2 * node + 1, mid + 1, hi, L, R, delta);
+        sum[node] = sum[2 * node] + sum[2 * node + 1];
+    }
+
+    private void assign(int node, int lo, int hi, int L, int R, long value) {
+        if (R < lo || hi < L) {
+            return;
+        }
+        if (L <= lo && hi <= R) {
+            applyAssign(node, lo, hi, value);
+            return;
+        }
+        pushDown(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        assign(2 * node, lo, mid, L, R, value);
+        assign(2 * node + 1, mid + 1, hi, L, R, value);
+        sum[node] = sum[2 * node] + sum[2 * node + 1];
+    }
+
+    private long query(int node, int lo, int hi, int L, int R) {
+        if (R < lo || hi < L) {
+            return 0;
+        }
+        if (L <= lo && hi <= R) {
+            return sum[node];
+        }
+        pushDown(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        return query(2 * node, lo, mid, L, R) + query(2 * node + 1, mid + 1, hi, L, R);
+    }
+
+    private void applyAdd(int node, int lo, int hi, long delta) {
+        sum[node] += delta * (hi - lo + 1);
+        // An add on top of a pending assign folds into the assigned value
+        if (hasAssign[node]) {
+            assignLazy[node] += delta;
+        } else {
+            addLazy[node] += delta;
+        }
+    }
+
+    private void applyAssign(int node, int lo, int hi, long value) {
+        sum[node] = value * (hi - lo + 1);
+        // Assign overrides anything still pending below this node
+        assignLazy[node] = value;
+        hasAssign[node] = true;
+        addLazy[node] = 0;
+    }
+
+    private void pushDown(int node, int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        if (hasAssign[node]) {
+            applyAssign(2 * node, lo, mid, assignLazy[node]);
+            applyAssign(2 * node + 1, mid + 1, hi, assignLazy[node]);
+            hasAssign[node] = false;
+        }
+        if (addLazy[node] != 0) {
+            applyAdd(2 * node, lo, mid, addLazy[node]);
+            applyAdd(2 * node + 1, mid + 1, hi, addLazy[node]);
+            addLazy[node] = 0;
+        }
+    }
+
+    private void checkRange(int L, int R) {
+        if (L < 0 || R >= n || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, n)
+            );
+        }
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3, 4, 5] with queries [[0, 3], [1, 2]]
+        LazySegmentTree segmentTree = new LazySegmentTree(new int[]{1, 2, 3, 4, 5});
+        int[][] B = {{0, 3}, {1, 2}};
+        long[] out = new long[B.length];
+
+        segmentTree.sumsInto(B, out);
+        System.out.println("Test case 1:");
+        System.out.println("Queries: " + Arrays.deepToString(B));
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [10, 5]");
+        System.out.println();
+
+        // Test case 2: range updates
+        segmentTree.rangeAdd(0, 4, 5);      // [6, 7, 8, 9, 10]
+        segmentTree.rangeAssign(2, 3, 0);   // [6, 7, 0, 0, 10]
+        segmentTree.rangeAdd(1, 2, 1);      // [6, 8, 1, 0, 10]
+
+        segmentTree.sumsInto(B, out);
+        System.out.println("Test case 2 (after add 5 to [0, 4], assign 0 to [2, 3], add 1 to [1, 2]):");
+        System.out.println("Queries: " + Arrays.deepToString(B));
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [15, 9]");
+        System.out.println();
+
+        // Mixed range update/query workload checked against a plain array
+        System.out.println("Randomized check against a plain array:");
+        Random random = new Random(42);
+        int[] base = new int[500];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = random.nextInt(2001) - 1000;
+        }
+        long[] mirror = new long[base.length];
+        for (int i = 0; i < base.length; i++) {
+            mirror[i] = base[i];
+        }
+        LazySegmentTree tree = new LazySegmentTree(base);
+
+        boolean allMatch = true;
+        for (int step = 0; step < 10000; step++) {
+            int L = random.nextInt(base.length);
+            int R = L + random.nextInt(base.length - L);
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                long delta = random.nextInt(201) - 100;
+                tree.rangeAdd(L, R, delta);
+                for (int k = L; k <= R; k++) {
+                    mirror[k] += delta;
+                }
+            } else if (operation == 1) {
+                long value = random.nextInt(201) - 100;
+                tree.rangeAssign(L, R, value);
+                for (int k = L; k <= R; k++) {
+                    mirror[k] = value;
+                }
+            } else {
+                long expected = 0;
+                for (int k = L; k <= R; k++) {
+                    expected += mirror[k];
+                }
+                allMatch &= tree.sum(L, R) == expected;
+            }
+        }
+        System.out.println("Results match: " + allMatch);
+    }
+}
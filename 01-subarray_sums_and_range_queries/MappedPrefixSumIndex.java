@@ -0,0 +1,431 @@
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Day 1: Range Sum Queries
+ * Memory-Mapped On-Disk Prefix Index
+ *
+ * Stores the prefix array in a file and serves queries straight from the
+ * OS page cache, so neither the input array nor the prefix array has to
+ * live on the heap. The file is written in one streaming pass over the
+ * input, which can come from an iterator or a raw file of ints.
+ *
+ * File format (big-endian):
+ *   int  magic    0x52535150 ("RSQP")
+ *   int  version  1
+ *   long n        number of elements
+ *   long prefix[n + 1], prefix[i] = sum of first i elements
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class MappedPrefixSumIndex implements AutoCloseable {
+
+    static final int MAGIC = 0x52535150;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+
+    // Files are mapped in windows of this size; a multiple of 8 keeps every long inside one window
+    private static final int WINDOW_SHIFT = 30;
+    private static final long WINDOW_BYTES = 1L << WINDOW_SHIFT;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] windows;
+    private final long n;
+    private volatile boolean closed;
+
+    private MappedPrefixSumIndex(FileChannel channel, MappedByteBuffer[] windows, long n) {
+        this.channel = channel;
+        this.windows = windows;
+        this.n = n;
+    }
+
+    /**
+     * Writes a prefix index file in a single streaming pass. Empty input is
+     * rejected before the destination is touched. If writing fails after the
+     * file was opened, the partial file is deleted, so no truncated index is
+     * left behind. If opening fails, whatever is at path is left alone.
+     * Time Complexity: O(N)
+     * Space Complexity: O(1) heap, O(N) disk
+     *
+     * @param path   destination file, replaced if it exists
+     * @param values input elements in order
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if values is empty
+     */
+    public static void write(Path path, PrimitiveIterator.OfInt values) throws IOException {
+        if (!values.hasNext()) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        // Opened outside the try: only a file this call created or truncated is deleted on failure
+        FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try (out) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+
+            // Header is rewritten once the element count is known
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(0L);
+            buffer.putLong(0L);
+
+            long count = 0;
+            long runningSum = 0;
+            while (values.hasNext()) {
+                runningSum += values.nextInt();
+                count++;
+                if (!buffer.hasRemaining()) {
+                    drain(out, buffer);
+                }
+                buffer.putLong(runningSum);
+            }
+            drain(out, buffer);
+
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer, buffer.position());
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a prefix index file for an in-memory array.
+     *
+     * @param path destination file, replaced if it exists
+     * @param A    input array
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public static void write(Path path, int[] A) throws IOException {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+        write(path, Arrays.stream(A).iterator());
+    }
+
+    /**
+     * Writes a prefix index file from a raw file of big-endian ints, reading
+     * the source in fixed-size chunks so arrays larger than the heap work.
+     *
+     * @param source raw int file, 4 bytes per element
+     * @param path   destination file, replaced if it exists
+     * @throws IOException if either file cannot be accessed
+     * @throws IllegalArgumentException if the source is empty or not a whole number of ints
+     */
+    public static void writeFromRawInts(Path source, Path path) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            if (in.size() % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Source file size must be a multiple of 4 bytes");
+            }
+            write(path, rawInts(in, source.toString()));
+        }
+    }
+
+    /**
+     * Iterates over the big-endian ints of a channel. A read may end in the
+     * middle of an int, so leftover bytes are compacted to the front of the
+     * buffer and completed by the next read.
+     */
+    private static PrimitiveIterator.OfInt rawInts(ReadableByteChannel in, String sourceName) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        buffer.flip();
+
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                if (buffer.remaining() >= Integer.BYTES) {
+                    return true;
+                }
+                try {
+                    buffer.compact();
+                    while (buffer.position() < Integer.BYTES && in.read(buffer) >= 0) {
+                        // keep reading until a whole int is buffered or the source ends
+                    }
+                    buffer.flip();
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to read " + sourceName, e);
+                }
+                if (buffer.hasRemaining() && buffer.remaining() < Integer.BYTES) {
+                    throw new IllegalStateException(sourceName + " ends in the middle of an int");
+                }
+                return buffer.hasRemaining();
+            }
+
+            @Override
+            public int nextInt() {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    /**
+     * Opens an index file for querying. Nothing is read eagerly; pages are
+     * faulted in from the page cache as queries touch them.
+     *
+     * @param path index file written by {@link #write}
+     * @return open index, to be closed when no longer needed
+     * @throws IOException if the file cannot be read or is not a prefix index
+     */
+    public static MappedPrefixSumIndex open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IOException("Not a prefix index file: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported prefix index version " + version + ": " + path);
+            }
+            long n = header.getLong();
+            if (n <= 0 || size != HEADER_BYTES + (n + 1) * Long.BYTES) {
+                throw new IOException("Truncated or corrupt prefix index file: " + path);
+            }
+
+            MappedByteBuffer[] windows = new MappedByteBuffer[(int) ((size - 1) >>> WINDOW_SHIFT) + 1];
+            for (int w = 0; w < windows.length; w++) {
+                long start = w * WINDOW_BYTES;
+                windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_BYTES, size - start));
+            }
+            return new MappedPrefixSumIndex(channel, windows, n);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of elements covered by the index
+     */
+    public long length() {
+        return n;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed), using two
+     * random reads from the mapped file. Safe to call from multiple threads.
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     * @throws IllegalStateException if the index has been closed
+     */
+    public long sum(long L, long R) {
+        if (closed) {
+            throw new IllegalStateException("Prefix index is closed");
+        }
+        if (L < 0 || R >= n || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, n)
+            );
+        }
+        return prefixAt(R + 1) - prefixAt(L);
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     * @throws IllegalStateException if the index has been closed
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = sum(query[0], query[1]);
+        }
+    }
+
+    /**
+     * Closes the underlying file. The mappings themselves are released by
+     * the JVM once they become unreachable.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    private long prefixAt(long i) {
+        long position = HEADER_BYTES + i * Long.BYTES;
+        return windows[(int) (position >>> WINDOW_SHIFT)].getLong((int) (position & (WINDOW_BYTES - 1)));
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("rsq", ".prefix");
+        try {
+            // Test case 1: [1, 2, 3, 4, 5] with queries [[0, 3], [1, 2]]
+            int[] A1 = {1, 2, 3, 4, 5};
+            int[][] B1 = {{0, 3}, {1, 2}};
+            long[] out = new long[B1.length];
+
+            write(file, A1);
+            try (MappedPrefixSumIndex index = open(file)) {
+                index.sumsInto(B1, out);
+            }
+            System.out.println("Test case 1:");
+            System.out.println("Array: " + Arrays.toString(A1));
+            System.out.println("Queries: " + Arrays.deepToString(B1));
+            System.out.println("Result: " + Arrays.toString(out));
+            System.out.println("Expected: [10, 5]");
+            System.out.println();
+
+            // Test case 2: build from a raw int file instead of an array
+            Path raw = Files.createTempFile("rsq", ".ints");
+            try {
+                ByteBuffer ints = ByteBuffer.allocate(A1.length * Integer.BYTES);
+                ints.asIntBuffer().put(A1);
+                Files.write(raw, ints.array());
+                writeFromRawInts(raw, file);
+            } finally {
+                Files.deleteIfExists(raw);
+            }
+            try (MappedPrefixSumIndex index = open(file)) {
+                index.sumsInto(B1, out);
+            }
+            System.out.println("Test case 2 (raw int file):");
+            System.out.println("Result: " + Arrays.toString(out));
+            System.out.println("Expected: [10, 5]");
+            System.out.println();
+
+            // Test case 3: empty input is rejected without leaving a file behind
+            Path empty = file.resolveSibling(file.getFileName() + ".empty");
+            boolean rejected = false;
+            try {
+                write(empty, IntStream.empty().iterator());
+            } catch (IllegalArgumentException e) {
+                rejected = true;
+            } finally {
+                System.out.println("Test case 3 (empty input):");
+                System.out.println("Rejected: " + rejected + ", file exists: " + Files.exists(empty));
+                System.out.println("Expected: rejected: true, file exists: false");
+                System.out.println();
+                Files.deleteIfExists(empty);
+            }
+
+            // Test case 4: a destination that cannot be opened is left untouched
+            Path directory = Files.createTempDirectory("rsq");
+            boolean failed = false;
+            try {
+                write(directory, A1);
+            } catch (IOException e) {
+                failed = true;
+            } finally {
+                System.out.println("Test case 4 (destination is a directory):");
+                System.out.println("Failed: " + failed + ", directory exists: " + Files.isDirectory(directory));
+                System.out.println("Expected: failed: true, directory exists: true");
+                System.out.println();
+                Files.deleteIfExists(directory);
+            }
+
+            // Test case 5: a source that returns at most 3 bytes per read, splitting every int
+            byte[] bytes = new byte[A1.length * Integer.BYTES];
+            ByteBuffer.wrap(bytes).asIntBuffer().put(A1);
+            ReadableByteChannel trickle = Channels.newChannel(new FilterInputStream(new ByteArrayInputStream(bytes)) {
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return super.read(b, off, Math.min(len, 3));
+                }
+            });
+            write(file, rawInts(trickle, "trickle"));
+            try (MappedPrefixSumIndex index = open(file)) {
+                index.sumsInto(B1, out);
+            }
+            System.out.println("Test case 5 (short reads):");
+            System.out.println("Result: " + Arrays.toString(out));
+            System.out.println("Expected: [10, 5]");
+            System.out.println();
+
+            // Streaming build from a generator: the input never exists as an array
+            int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+            Runtime runtime = Runtime.getRuntime();
+            runtime.gc();
+            long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+            long startTime = System.nanoTime();
+            write(file, IntStream.range(0, n).map(i -> (i % 2001) - 1000).iterator());
+            long buildTime = System.nanoTime() - startTime;
+
+            System.out.println("Streaming build (" + n + " elements):");
+            System.out.printf("Build time: %.2f ms, file size: %d MB%n",
+                buildTime / 1_000_000.0, Files.size(file) >> 20);
+
+            try (MappedPrefixSumIndex index = open(file)) {
+                Random random = new Random(42);
+                boolean allMatch = true;
+                long queryTime = 0;
+                for (int q = 0; q < 1000; q++) {
+                    int L = random.nextInt(n);
+                    int R = L + random.nextInt(Math.min(10_000, n - L));
+                    long expected = 0;
+                    for (int i = L; i <= R; i++) {
+                        expected += (i % 2001) - 1000;
+                    }
+                    long queryStart = System.nanoTime();
+                    long actual = index.sum(L, R);
+                    queryTime += System.nanoTime() - queryStart;
+                    allMatch &= actual == expected;
+                }
+
+                runtime.gc();
+                long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+                System.out.printf("Average query time: %.2f μs%n", queryTime / 1000 / 1000.0);
+                System.out.printf("Heap growth while open: %d KB (prefix data: %d MB off-heap)%n",
+                    Math.max(0, heapAfter - heapBefore) >> 10, ((long) n + 1) * Long.BYTES >> 20);
+                System.out.println("Results match: " + allMatch);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.LongSupplier;
+
+/**
+ * Day 1: Micro-Benchmark Harness
+ *
+ * A small JMH-style harness shared by the Java benchmarks in this folder, so
+ * they run with plain javac/java like every other solution here. Each
+ * benchmark runs timed warmup iterations (discarded, to let the JIT compile
+ * the code) followed by timed measurement iterations. Every iteration calls
+ * the operation repeatedly for a fixed time budget. It reports:
+ *   - average time per operation with a 99.9% confidence interval
+ *   - throughput in operations per second
+ *   - bytes allocated per operation and the resulting allocation rate,
+ *     from the per-thread allocation counters summed over all live threads
+ *     (what JMH's -prof gc reports as gc.alloc.rate.norm and gc.alloc.rate)
+ * Summing over every thread counts the work that parallel engines fork onto
+ * the common pool. It also counts anything unrelated that other threads
+ * allocate meanwhile, and loses the bytes of a thread that exits during an
+ * iteration, so run benchmarks on an otherwise idle JVM.
+ * Results of every operation are folded into a volatile sink so the JIT
+ * cannot eliminate the work as dead code.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class MicroBenchmark {
+
+    // Two-sided Student's t quantiles for 99.9% confidence, indexed by degrees of freedom (1-10)
+    private static final double[] T_999 = {
+        Double.NaN, 636.62, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587
+    };
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean TRACKER =
+        THREADS instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) THREADS : null;
+    // Allocation columns print NaN when the JVM cannot count per-thread allocations
+    private static final boolean TRACKING = TRACKER != null && TRACKER.isThreadAllocatedMemorySupported()
+        && TRACKER.isThreadAllocatedMemoryEnabled();
+
+    private static volatile long sink;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+
+    /**
+     * @param warmupIterations      iterations run and discarded before measuring
+     * @param measurementIterations iterations measured, between 2 and 11
+     * @param iterationMillis       time budget of each iteration
+     * @throws IllegalArgumentException for out-of-range settings
+     */
+    public MicroBenchmark(int warmupIterations, int measurementIterations, long iterationMillis) {
+        if (warmupIterations < 0 || measurementIterations < 2 || measurementIterations >= T_999.length
+                || iterationMillis <= 0) {
+            throw new IllegalArgumentException("Need >= 0 warmup, 2-" + (T_999.length - 1)
+                + " measurement iterations and a positive iteration time");
+        }
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000;
+    }
+
+    /**
+     * Measured statistics of one benchmark
+     */
+    public static final class Result {
+        public final String name;
+        public final double nanosPerOp;
+        public final double errorNanos;
+        public final double bytesPerOp;
+
+        Result(String name, double nanosPerOp, double errorNanos, double bytesPerOp) {
+            this.name = name;
+            this.nanosPerOp = nanosPerOp;
+            this.errorNanos = errorNanos;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        public double opsPerSecond() {
+            return 1e9 / nanosPerOp;
+        }
+
+        /**
+         * @return allocation rate in MB/s, or NaN when allocation tracking is unavailable
+         */
+        public double allocationMegabytesPerSecond() {
+            return bytesPerOp * opsPerSecond() / (1 << 20);
+        }
+    }
+
+    /**
+     * Runs one benchmark on the calling thread.
+     *
+     * @param name      label printed with the results
+     * @param operation the code under test, returning a value that depends on its work
+     * @return measured statistics
+     */
+    public Result run(String name, LongSupplier operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(operation, new long[2]);
+        }
+
+        double[] nanosPerOp = new double[measurementIterations];
+        long totalOps = 0, totalBytes = 0;
+        long[] counters = new long[2];
+        for (int i = 0; i < measurementIterations; i++) {
+            nanosPerOp[i] = iteration(operation, counters);
+            totalOps += counters[0];
+            totalBytes += counters[1];
+        }
+
+        double mean = 0;
+        for (double value : nanosPerOp) {
+            mean += value / measurementIterations;
+        }
+        double variance = 0;
+        for (double value : nanosPerOp) {
+            variance += (value - mean) * (value - mean) / (measurementIterations - 1);
+        }
+        double error = T_999[measurementIterations - 1] * Math.sqrt(variance / measurementIterations);
+        double bytesPerOp = totalBytes < 0 ? Double.NaN : (double) totalBytes / totalOps;
+        return new Result(name, mean, error, bytesPerOp);
+    }
+
+    /**
+     * Calls the operation until the time budget is spent.
+     * counters[0] receives the number of calls, counters[1] the bytes allocated (-1 if unknown).
+     *
+     * @return average nanoseconds per call
+     */
+    private double iteration(LongSupplier operation, long[] counters) {
+        long[] idsBefore = TRACKING ? THREADS.getAllThreadIds() : null;
+        long[] threadBytesBefore = TRACKING ? TRACKER.getThreadAllocatedBytes(idsBefore) : null;
+        long callerBefore = TRACKING ? TRACKER.getCurrentThreadAllocatedBytes() : -1;
+        long startTime = System.nanoTime();
+        long deadline = startTime + iterationNanos;
+        long ops = 0, accumulator = 0, now;
+        do {
+            accumulator += operation.getAsLong();
+            ops++;
+            now = System.nanoTime();
+        } while (now < deadline);
+
+        sink += accumulator;
+        counters[0] = ops;
+        counters[1] = -1;
+        if (TRACKING) {
+            long callerAfter = TRACKER.getCurrentThreadAllocatedBytes();
+            long[] idsAfter = THREADS.getAllThreadIds();
+            long[] threadBytesAfter = TRACKER.getThreadAllocatedBytes(idsAfter);
+            long callerAfterSnapshot = TRACKER.getCurrentThreadAllocatedBytes();
+            // The snapshots include the calling thread, snapshot arrays and all;
+            // swap its share for the bytes allocated between the two timing reads
+            long otherThreads = allocatedSince(idsBefore, threadBytesBefore, idsAfter, threadBytesAfter)
+                - (callerAfterSnapshot - callerBefore);
+            counters[1] = callerAfter - callerBefore + otherThreads;
+        }
+        return (double) (now - startTime) / ops;
+    }
+
+    /**
+     * Bytes allocated between two snapshots by the threads alive at the second
+     * one; threads started in between count from zero
+     */
+    private static long allocatedSince(long[] idsBefore, long[] bytesBefore, long[] idsAfter, long[] bytesAfter) {
+        long total = 0;
+        for (int j = 0; j < idsAfter.length; j++) {
+            if (bytesAfter[j] < 0) {
+                continue;
+            }
+            long start = 0;
+            for (int i = 0; i < idsBefore.length; i++) {
+                if (idsBefore[i] == idsAfter[j]) {
+                    start = Math.max(bytesBefore[i], 0);
+                    break;
+                }
+            }
+            total += bytesAfter[j] - start;
+        }
+        return total;
+    }
+
+    /**
+     * Prints the column header matching {@link #print(Result)}
+     */
+    public static void printHeader() {
+        System.out.printf("%-40s %16s %12s %14s %14s %14s%n",
+            "Benchmark", "avg time (μs/op)", "error (±μs)", "thrpt (ops/s)", "alloc (B/op)", "alloc (MB/s)");
+        System.out.println("-".repeat(115));
+    }
+
+    /**
+     * Prints one row of results
+     */
+    public static void print(Result result) {
+        System.out.printf("%-40s %16.3f %12.3f %14.1f %14.1f %14.1f%n",
+            result.name, result.nanosPerOp / 1000, result.errorNanos / 1000,
+            result.opsPerSecond(), result.bytesPerOp, result.allocationMegabytesPerSecond());
+    }
+}
@@ -0,0 +1,186 @@
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Range Sum Queries
+ * Off-Heap Prefix Index using the Foreign Function & Memory API
+ *
+ * Same queries as PrefixSumIndex, but the prefix array lives in native
+ * memory owned by a shared Arena instead of on the GC-managed heap, so a
+ * long-lived index adds nothing to old-gen occupancy or GC pause times.
+ * The memory is freed deterministically by close(); any query after that
+ * fails with IllegalStateException instead of reading freed memory.
+ *
+ * The FFM API is final in JDK 22 and a preview in JDK 21:
+ *   javac OffHeapPrefixSumIndex.java PrefixSumIndex.java
+ *   java OffHeapPrefixSumIndex
+ * (on JDK 21 add --release 21 --enable-preview to javac and --enable-preview to java)
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class OffHeapPrefixSumIndex implements AutoCloseable {
+
+    private final Arena arena;
+    // prefix[i] = sum of the first i elements, prefix[0] = 0
+    private final MemorySegment prefix;
+    private final int n;
+
+    /**
+     * Builds the index from the given array into freshly allocated native memory.
+     * Time Complexity: O(N)
+     * Space Complexity: O(N) off-heap, O(1) heap
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public OffHeapPrefixSumIndex(int[] A) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        n = A.length;
+        // Shared so the index can be queried from any thread, like the on-heap version
+        arena = Arena.ofShared();
+        prefix = arena.allocate((long) (n + 1) * Long.BYTES, Long.BYTES);
+
+        long runningSum = 0;
+        prefix.setAtIndex(ValueLayout.JAVA_LONG, 0, 0L);
+        for (int i = 0; i < n; i++) {
+            runningSum += A[i];
+            prefix.setAtIndex(ValueLayout.JAVA_LONG, i + 1, runningSum);
+        }
+    }
+
+    /**
+     * @return number of elements covered by the index
+     */
+    public int length() {
+        return n;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed).
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     * @throws IllegalStateException if the index has been closed
+     */
+    public long sum(int L, int R) {
+        if (L < 0 || R >= n || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, n)
+            );
+        }
+        return prefix.getAtIndex(ValueLayout.JAVA_LONG, R + 1) - prefix.getAtIndex(ValueLayout.JAVA_LONG, L);
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     * @throws IllegalStateException if the index has been closed
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = sum(query[0], query[1]);
+        }
+    }
+
+    /**
+     * Frees the native memory. Must not race with in-flight queries.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3, 4, 5] with queries [[0, 3], [1, 2]]
+        int[] A1 = {1, 2, 3, 4, 5};
+        int[][] B1 = {{0, 3}, {1, 2}};
+        long[] out = new long[B1.length];
+
+        OffHeapPrefixSumIndex closedIndex;
+        try (OffHeapPrefixSumIndex index = new OffHeapPrefixSumIndex(A1)) {
+            index.sumsInto(B1, out);
+            closedIndex = index;
+        }
+        System.out.println("Test case 1:");
+        System.out.println("Array: " + Arrays.toString(A1));
+        System.out.println("Queries: " + Arrays.deepToString(B1));
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [10, 5]");
+        System.out.println();
+
+        // Test case 2: queries after close are rejected
+        System.out.println("Test case 2 (query after close):");
+        try {
+            closedIndex.sum(0, 3);
+            System.out.println("Result: no exception");
+        } catch (IllegalStateException e) {
+            System.out.println("Result: IllegalStateException");
+        }
+        System.out.println("Expected: IllegalStateException");
+        System.out.println();
+
+        // Heap usage: on-heap PrefixSumIndex vs off-heap index over the same data
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int[] large = new int[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            large[i] = random.nextInt(2001) - 1000;
+        }
+
+        System.out.println("Heap usage comparison (" + n + " elements):");
+        long baseline = usedHeapAfterGc();
+        PrefixSumIndex onHeap = new PrefixSumIndex(large);
+        long onHeapBytes = usedHeapAfterGc() - baseline;
+
+        baseline = usedHeapAfterGc();
+        try (OffHeapPrefixSumIndex offHeap = new OffHeapPrefixSumIndex(large)) {
+            long offHeapBytes = usedHeapAfterGc() - baseline;
+
+            System.out.printf("On-heap index: %d MB of heap%n", Math.max(0, onHeapBytes) >> 20);
+            System.out.printf("Off-heap index: %d MB of heap (%d MB native)%n",
+                Math.max(0, offHeapBytes) >> 20, ((long) n + 1) * Long.BYTES >> 20);
+
+            boolean allMatch = true;
+            for (int q = 0; q < 10_000; q++) {
+                int L = random.nextInt(n);
+                int R = L + random.nextInt(n - L);
+                allMatch &= onHeap.sum(L, R) == offHeap.sum(L, R);
+            }
+            System.out.println("Results match: " + allMatch);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        runtime.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
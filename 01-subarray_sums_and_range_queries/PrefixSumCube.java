@@ -0,0 +1,263 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Day 1: Range Sum Queries
+ * N-Dimensional Prefix Sum Cube
+ *
+ * Generalizes the prefix array and the summed-area table to any number of
+ * dimensions, for OLAP-style aggregates such as time × region × product ×
+ * channel. The cube is one flat long[] in row-major order (last dimension
+ * fastest) with a zero slice of padding at the start of every dimension.
+ * A box sum combines its 2^d corners by inclusion-exclusion: corners taking
+ * the lower bound in an odd number of dimensions are subtracted.
+ * Instances are immutable and safe to share between threads.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class PrefixSumCube {
+
+    // Lines of one dimension are split into chunks of this many contiguous slots per task
+    private static final int INNER_CHUNK = 4096;
+
+    private final int[] dims;
+    // strides[k] = distance in the flat table between neighbors along dimension k
+    private final int[] strides;
+    private final long[] table;
+
+    /**
+     * Builds the cube from a flat row-major buffer, one dimension at a time.
+     * Time Complexity: O(d × Π(n_k + 1)) where d = number of dimensions
+     * Space Complexity: O(Π(n_k + 1))
+     *
+     * @param data row-major cells, the last dimension varies fastest
+     * @param dims size of each dimension
+     * @throws IllegalArgumentException if the dimensions do not match the buffer
+     */
+    public PrefixSumCube(int[] data, int... dims) {
+        if (data == null || dims == null || dims.length == 0 || dims.length > 30) {
+            throw new IllegalArgumentException("Cube needs a buffer and between 1 and 30 dimensions");
+        }
+        long cells = 1, padded = 1;
+        for (int size : dims) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("Every dimension must be positive: " + Arrays.toString(dims));
+            }
+            cells *= size;
+            padded *= size + 1;
+            if (padded > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Cube is too large for a single table: " + Arrays.toString(dims));
+            }
+        }
+        if (cells != data.length) {
+            throw new IllegalArgumentException(
+                String.format("Buffer length %d does not match dimensions %s", data.length, Arrays.toString(dims))
+            );
+        }
+
+        int d = dims.length;
+        this.dims = dims.clone();
+        this.strides = new int[d];
+        strides[d - 1] = 1;
+        for (int k = d - 2; k >= 0; k--) {
+            strides[k] = strides[k + 1] * (dims[k + 1] + 1);
+        }
+        this.table = new long[(int) padded];
+
+        scatter(data);
+        boolean parallel = padded >= PrefixSumIndex.PARALLEL_THRESHOLD
+            && Runtime.getRuntime().availableProcessors() > 1;
+        for (int k = 0; k < d; k++) {
+            prefixAlong(k, parallel);
+        }
+    }
+
+    /**
+     * Copies the cells into the padded table, skipping the zero slice of every dimension
+     */
+    private void scatter(int[] data) {
+        int d = dims.length;
+        int[] coordinate = new int[d];
+        int target = 0;
+        for (int k = 0; k < d; k++) {
+            target += strides[k];
+        }
+        int lastSize = dims[d - 1];
+        for (int source = 0; source < data.length; source += lastSize) {
+            for (int c = 0; c < lastSize; c++) {
+                table[target + c] = data[source + c];
+            }
+            // Odometer increment over all but the last dimension
+            for (int k = d - 2; k >= 0; k--) {
+                target += strides[k];
+                if (++coordinate[k] < dims[k]) {
+                    break;
+                }
+                target -= coordinate[k] * strides[k];
+                coordinate[k] = 0;
+            }
+        }
+    }
+
+    /**
+     * Running sums along dimension k. Everything before k forms independent
+     * outer blocks; within a block, the slice at position j is added to the
+     * slice at j + 1, and each slice is a contiguous run of strides[k] slots.
+     */
+    private void prefixAlong(int k, boolean parallel) {
+        int stride = strides[k];
+        int span = stride * (dims[k] + 1);
+        int outerBlocks = table.length / span;
+        int innerChunks = (stride + INNER_CHUNK - 1) / INNER_CHUNK;
+
+        IntStream tasks = IntStream.range(0, outerBlocks * innerChunks);
+        (parallel ? tasks.parallel() : tasks).forEach(task -> {
+            int base = (task / innerChunks) * span;
+            int from = (task % innerChunks) * INNER_CHUNK;
+            int to = Math.min(stride, from + INNER_CHUNK);
+            for (int j = 1; j < dims[k]; j++) {
+                int current = base + (j + 1) * stride, previous = current - stride;
+                for (int i = from; i < to; i++) {
+                    table[current + i] += table[previous + i];
+                }
+            }
+        });
+    }
+
+    /**
+     * @return number of dimensions
+     */
+    public int dimensions() {
+        return dims.length;
+    }
+
+    /**
+     * Sum of the box lo[k] ≤ x_k ≤ hi[k] in every dimension (inclusive, 0-indexed).
+     * Time Complexity: O(d × 2^d)
+     *
+     * @param lo lower corner
+     * @param hi upper corner
+     * @return box sum
+     * @throws IllegalArgumentException for an invalid box
+     */
+    public long sum(int[] lo, int[] hi) {
+        int d = dims.length;
+        if (lo == null || hi == null || lo.length != d || hi.length != d) {
+            throw new IllegalArgumentException("Box corners must have " + d + " coordinates each");
+        }
+        for (int k = 0; k < d; k++) {
+            if (lo[k] < 0 || hi[k] >= dims[k] || lo[k] > hi[k]) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid box %s..%s for dimensions %s",
+                        Arrays.toString(lo), Arrays.toString(hi), Arrays.toString(dims))
+                );
+            }
+        }
+
+        long total = 0;
+        for (int mask = 0; mask < (1 << d); mask++) {
+            // Bit k set: take the lower bound lo[k] (excluded) instead of hi[k] + 1
+            int index = 0;
+            for (int k = 0; k < d; k++) {
+                index += ((mask >>> k & 1) != 0 ? lo[k] : hi[k] + 1) * strides[k];
+            }
+            total += (Integer.bitCount(mask) & 1) == 0 ? table[index] : -table[index];
+        }
+        return total;
+    }
+
+    /**
+     * Answers a batch of box queries into a caller-supplied array.
+     * Time Complexity: O(Q × d × 2^d) where Q = number of queries
+     *
+     * @param B   queries array, each entry [lo_0 .. lo_{d-1}, hi_0 .. hi_{d-1}]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        int d = dims.length;
+        int[] lo = new int[d], hi = new int[d];
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2 * d) {
+                throw new IllegalArgumentException("Each query must have exactly " + 2 * d + " elements [lo..., hi...]");
+            }
+            System.arraycopy(query, 0, lo, 0, d);
+            System.arraycopy(query, d, hi, 0, d);
+            out[q] = sum(lo, hi);
+        }
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: 1-D cube behaves like the prefix array
+        PrefixSumCube line = new PrefixSumCube(new int[]{1, 2, 3, 4, 5}, 5);
+        int[][] B1 = {{0, 3}, {1, 2}};
+        long[] out1 = new long[B1.length];
+        line.sumsInto(B1, out1);
+
+        System.out.println("Test case 1 (1-D):");
+        System.out.println("Queries: " + Arrays.deepToString(B1));
+        System.out.println("Result: " + Arrays.toString(out1));
+        System.out.println("Expected: [10, 5]");
+        System.out.println();
+
+        // Test case 2: 2 x 2 x 2 cube holding 1 through 8
+        PrefixSumCube cube = new PrefixSumCube(new int[]{1, 2, 3, 4, 5, 6, 7, 8}, 2, 2, 2);
+        int[][] B2 = {{0, 0, 0, 1, 1, 1}, {1, 0, 0, 1, 1, 1}, {0, 1, 1, 1, 1, 1}};
+        long[] out2 = new long[B2.length];
+        cube.sumsInto(B2, out2);
+
+        System.out.println("Test case 2 (3-D):");
+        System.out.println("Queries: " + Arrays.deepToString(B2));
+        System.out.println("Result: " + Arrays.toString(out2));
+        System.out.println("Expected: [36, 26, 12]");
+        System.out.println();
+
+        // 4-D cube (time × region × product × channel) checked against brute force
+        int[] dims = {48, 20, 30, 6};
+        int[] data = new int[48 * 20 * 30 * 6];
+        Random random = new Random(42);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt(2001) - 1000;
+        }
+
+        long startTime = System.nanoTime();
+        PrefixSumCube olap = new PrefixSumCube(data, dims);
+        long buildTime = System.nanoTime() - startTime;
+
+        boolean allMatch = true;
+        int[] lo = new int[4], hi = new int[4];
+        for (int q = 0; q < 200; q++) {
+            for (int k = 0; k < 4; k++) {
+                lo[k] = random.nextInt(dims[k]);
+                hi[k] = lo[k] + random.nextInt(dims[k] - lo[k]);
+            }
+            long expected = 0;
+            for (int a = lo[0]; a <= hi[0]; a++) {
+                for (int b = lo[1]; b <= hi[1]; b++) {
+                    for (int c = lo[2]; c <= hi[2]; c++) {
+                        for (int e = lo[3]; e <= hi[3]; e++) {
+                            expected += data[((a * dims[1] + b) * dims[2] + c) * dims[3] + e];
+                        }
+                    }
+                }
+            }
+            allMatch &= olap.sum(lo, hi) == expected;
+        }
+        System.out.println("4-D cube " + Arrays.toString(dims) + ":");
+        System.out.printf("Build time: %.2f ms%n", buildTime / 1_000_000.0);
+        System.out.println("Results match: " + allMatch);
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.Arrays;
+
+/**
+ * Day 1: Range Sum Queries
+ * Reusable Prefix Sum Index
+ *
+ * Builds the prefix array once and answers any number of query batches
+ * against it. Instances are immutable after construction, so a single index
+ * can be shared freely between threads without synchronization.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class PrefixSumIndex {
+
+    /**
+     * Arrays at least this long are built with a parallel scan. Below it the
+     * fork-join overhead outweighs the gain of a single sequential pass.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    // prefix[i] = sum of the first i elements, prefix[0] = 0
+    private final long[] prefix;
+
+    /**
+     * Builds the index from the given array. The array is not retained, so
+     * later changes to it are not reflected in the index. Arrays of at least
+     * {@link #PARALLEL_THRESHOLD} elements are scanned in parallel when more
+     * than one core is available.
+     * Time Complexity: O(N), O(N / P) span on P cores for large arrays
+     * Space Complexity: O(N) for prefix array
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public PrefixSumIndex(int[] A) {
+        this(A, A != null && A.length >= PARALLEL_THRESHOLD
+                && Runtime.getRuntime().availableProcessors() > 1);
+    }
+
+    /**
+     * Builds the index, explicitly choosing the sequential or parallel scan.
+     *
+     * @param A        input array
+     * @param parallel true to build with {@link Arrays#parallelPrefix}
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    PrefixSumIndex(int[] A, boolean parallel) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        prefix = parallel ? buildParallel(A) : buildSequential(A);
+    }
+
+    /**
+     * Single pass: prefix[i + 1] = prefix[i] + A[i]
+     */
+    private static long[] buildSequential(int[] A) {
+        int n = A.length;
+        long[] prefix = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            prefix[i + 1] = prefix[i] + A[i];
+        }
+        return prefix;
+    }
+
+    /**
+     * Widens A into prefix[1..N] in parallel, then runs the blocked two-pass
+     * scan of {@link Arrays#parallelPrefix} over it. prefix[0] stays 0, so
+     * the scan leaves every slot holding the sum of the elements before it.
+     */
+    private static long[] buildParallel(int[] A) {
+        long[] prefix = new long[A.length + 1];
+        Arrays.parallelSetAll(prefix, i -> i == 0 ? 0 : A[i - 1]);
+        Arrays.parallelPrefix(prefix, Long::sum);
+        return prefix;
+    }
+
+    /**
+     * @return number of elements covered by the index
+     */
+    public int length() {
+        return prefix.length - 1;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed).
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public long sum(int L, int R) {
+        checkRange(L, R);
+        return prefix[R + 1] - prefix[L];
+    }
+
+    /**
+     * Answers a batch of queries.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B queries array, each entry [L, R]
+     * @return array of range sums, one per query
+     * @throws IllegalArgumentException for malformed queries
+     */
+    public long[] sums(int[][] B) {
+        long[] results = new long[B == null ? 0 : B.length];
+        sumsInto(B, results);
+        return results;
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array, allocating nothing.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = sum(query[0], query[1]);
+        }
+    }
+
+    private void checkRange(int L, int R) {
+        if (L < 0 || R >= length() || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, length())
+            );
+        }
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3, 4, 5] with queries [[0, 3], [1, 2]]
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{1, 2, 3, 4, 5});
+        int[][] B1 = {{0, 3}, {1, 2}};
+
+        System.out.println("Test case 1:");
+        System.out.println("Queries: " + Arrays.deepToString(B1));
+        System.out.println("Result: " + Arrays.toString(index.sums(B1)));
+        System.out.println("Expected: [10, 5]");
+        System.out.println();
+
+        // Test case 2: the same index answers a second batch without rebuilding
+        int[][] B2 = {{4, 4}, {0, 4}};
+
+        System.out.println("Test case 2 (reused index):");
+        System.out.println("Queries: " + Arrays.deepToString(B2));
+        System.out.println("Result: " + Arrays.toString(index.sums(B2)));
+        System.out.println("Expected: [5, 15]");
+        System.out.println();
+
+        // Build performance: sequential loop vs parallel scan
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int[] large = new int[n];
+        for (int i = 0; i < n; i++) {
+            large[i] = (i % 2001) - 1000;
+        }
+
+        System.out.println("Build performance (" + n + " elements, "
+            + Runtime.getRuntime().availableProcessors() + " cores):");
+        // Warm up both paths so the JIT has compiled them before timing
+        for (int round = 0; round < 3; round++) {
+            new PrefixSumIndex(large, false);
+            new PrefixSumIndex(large, true);
+        }
+
+        long sequentialTime = Long.MAX_VALUE, parallelTime = Long.MAX_VALUE;
+        PrefixSumIndex sequential = null, parallel = null;
+        for (int round = 0; round < 5; round++) {
+            long startTime = System.nanoTime();
+            sequential = new PrefixSumIndex(large, false);
+            sequentialTime = Math.min(sequentialTime, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            parallel = new PrefixSumIndex(large, true);
+            parallelTime = Math.min(parallelTime, System.nanoTime() - startTime);
+        }
+
+        System.out.printf("Sequential build (best of 5): %.2f ms%n", sequentialTime / 1_000_000.0);
+        System.out.printf("Parallel build (best of 5): %.2f ms%n", parallelTime / 1_000_000.0);
+        System.out.printf("Speedup: %.2fx%n", (double) sequentialTime / parallelTime);
+        System.out.println("Results match: " + Arrays.equals(sequential.prefix, parallel.prefix));
+    }
+}
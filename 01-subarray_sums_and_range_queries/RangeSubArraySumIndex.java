@@ -0,0 +1,203 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Subarray Sums & Range Queries
+ * Sum of All Subarray Sums within [L, R] in O(1)
+ *
+ * Combines the two halves of this folder: the all-subarrays total of
+ * SubArraySum, restricted to a window [L, R] of the array like the queries of
+ * RangeSumQuery. Inside the window, element i appears in
+ * (i - L + 1) * (R - i + 1) subarrays, which expands to
+ *   -i² + (L + R) * i - (L - 1) * (R + 1)
+ * so the answer is a fixed combination of three range sums:
+ *   total(L, R) = -Σ i² * A[i] + (L + R) * Σ i * A[i] - (L - 1) * (R + 1) * Σ A[i]
+ * Prefix arrays of A[i], i * A[i] and i² * A[i] give each range sum in O(1).
+ * The prefixes use wrapping long arithmetic. The identity holds modulo 2^64,
+ * so the result is exact whenever the true total fits in a long, even if an
+ * intermediate prefix overflows.
+ * Instances are immutable and safe to share between threads.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class RangeSubArraySumIndex {
+
+    // prefixK[i] = Σ j^K * A[j] over the first i elements
+    private final long[] prefix0;
+    private final long[] prefix1;
+    private final long[] prefix2;
+
+    /**
+     * Builds the three prefix arrays in one pass.
+     * Time Complexity: O(N)
+     * Space Complexity: O(N), three longs per element
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public RangeSubArraySumIndex(int[] A) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        int n = A.length;
+        prefix0 = new long[n + 1];
+        prefix1 = new long[n + 1];
+        prefix2 = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            long value = A[i], index = i;
+            prefix0[i + 1] = prefix0[i] + value;
+            prefix1[i + 1] = prefix1[i] + index * value;
+            prefix2[i + 1] = prefix2[i] + index * index * value;
+        }
+    }
+
+    /**
+     * @return number of elements covered by the index
+     */
+    public int length() {
+        return prefix0.length - 1;
+    }
+
+    /**
+     * Sum of all subarray sums of A[L..R] (inclusive, 0-indexed).
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return total of every subarray sum inside the window
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public long total(int L, int R) {
+        if (L < 0 || R >= length() || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, length())
+            );
+        }
+
+        long sum0 = prefix0[R + 1] - prefix0[L];
+        long sum1 = prefix1[R + 1] - prefix1[L];
+        long sum2 = prefix2[R + 1] - prefix2[L];
+        return -sum2 + ((long) L + R) * sum1 - ((long) L - 1) * ((long) R + 1) * sum0;
+    }
+
+    /**
+     * Answers a batch of queries.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B queries array, each entry [L, R]
+     * @return array of window totals, one per query
+     * @throws IllegalArgumentException for malformed queries
+     */
+    public long[] totals(int[][] B) {
+        long[] results = new long[B == null ? 0 : B.length];
+        totalsInto(B, results);
+        return results;
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array, allocating nothing.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the total of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void totalsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = total(query[0], query[1]);
+        }
+    }
+
+    /**
+     * Window counterpart of RangeSumQuery.rangeSumQuery(A, B).
+     * Time Complexity: O(N + Q)
+     *
+     * @param A input array
+     * @param B queries array, each entry [L, R]
+     * @return array of window totals, one per query
+     * @throws IllegalArgumentException for invalid inputs
+     */
+    public static long[] subArraySumQuery(int[] A, int[][] B) {
+        long[] out = new long[B == null ? 0 : B.length];
+        new RangeSubArraySumIndex(A).totalsInto(B, out);
+        return out;
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3, 4, 5] with windows [[0, 2], [1, 3], [0, 4], [2, 2]]
+        int[] A1 = {1, 2, 3, 4, 5};
+        int[][] B1 = {{0, 2}, {1, 3}, {0, 4}, {2, 2}};
+
+        System.out.println("Test case 1:");
+        System.out.println("Array: " + Arrays.toString(A1));
+        System.out.println("Queries: " + Arrays.deepToString(B1));
+        System.out.println("Result: " + Arrays.toString(subArraySumQuery(A1, B1)));
+        System.out.println("Expected: [20, 30, 105, 3]");
+        System.out.println();
+
+        // Randomized check against cached_contribution on copied windows, including int overflow territory
+        Random random = new Random(42);
+        int[] A = new int[5000];
+        for (int i = 0; i < A.length; i++) {
+            A[i] = random.nextInt();
+        }
+        RangeSubArraySumIndex index = new RangeSubArraySumIndex(A);
+        boolean allMatch = true;
+        for (int q = 0; q < 2000; q++) {
+            int L = random.nextInt(A.length);
+            int R = L + random.nextInt(A.length - L);
+            allMatch &= index.total(L, R)
+                == SubArraySum.SubarraySum.cached_contribution(Arrays.copyOfRange(A, L, R + 1));
+        }
+        System.out.println("Randomized check against cached_contribution on copied windows:");
+        System.out.println("Results match: " + allMatch);
+        System.out.println();
+
+        // Performance comparison: O(1) index lookups vs copying each window
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int q = 2_000;
+        int[] large = new int[n];
+        for (int i = 0; i < n; i++) {
+            large[i] = random.nextInt(2001) - 1000;
+        }
+        int[][] queries = new int[q][];
+        for (int i = 0; i < q; i++) {
+            int L = random.nextInt(n);
+            queries[i] = new int[]{L, L + random.nextInt(n - L)};
+        }
+
+        long[] indexed = new long[q];
+        long startTime = System.nanoTime();
+        new RangeSubArraySumIndex(large).totalsInto(queries, indexed);
+        long indexTime = System.nanoTime() - startTime;
+
+        long[] copied = new long[q];
+        startTime = System.nanoTime();
+        for (int i = 0; i < q; i++) {
+            copied[i] = SubArraySum.SubarraySum.cached_contribution(
+                Arrays.copyOfRange(large, queries[i][0], queries[i][1] + 1));
+        }
+        long copyTime = System.nanoTime() - startTime;
+
+        System.out.println("Performance comparison (" + n + " elements, " + q + " windows):");
+        System.out.printf("Index build + queries: %.2f ms%n", indexTime / 1_000_000.0);
+        System.out.printf("Copy + contribution per window: %.2f ms%n", copyTime / 1_000_000.0);
+        System.out.println("Results match: " + Arrays.equals(indexed, copied));
+    }
+}
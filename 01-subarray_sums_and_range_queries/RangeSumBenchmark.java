@@ -0,0 +1,117 @@
+import java.util.Random;
+
+/**
+ * Day 1: Range Sum Queries
+ * Benchmark Suite for the RangeSumQuery Engines
+ *
+ * Replaces the single System.nanoTime() comparison in RangeSumQuery.main
+ * with warmed-up, repeated measurements from MicroBenchmark. The suite
+ * covers every combination of the parameters below. One operation is one
+ * full batch of Q queries, including any preprocessing the method does per
+ * batch.
+ *   N    - array length
+ *   Q    - queries per batch
+ *   dist - query lengths: "short" (1-64), "uniform" (random L ≤ R),
+ *          or "full" (the whole array)
+ * Engines:
+ *   brute, optimized, fenwick, auto       rangeSumQuery(A, B, method, out)
+ *   prebuilt index                        PrefixSumIndex built once, sumsInto per batch
+ *   lazy segment tree                     LazySegmentTree built once, sumsInto per batch
+ * Brute force is skipped when a batch would scan more than BRUTE_SCAN_LIMIT elements.
+ *
+ * Usage: java RangeSumBenchmark [N,N,...] [Q,Q,...] [dist,dist,...]
+ *   e.g. java RangeSumBenchmark 10000,1000000 1000,100000 short,uniform
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public class RangeSumBenchmark {
+
+    private static final long BRUTE_SCAN_LIMIT = 200_000_000L;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? parseInts(args[0]) : new int[]{10_000, 1_000_000};
+        int[] queryCounts = args.length > 1 ? parseInts(args[1]) : new int[]{1_000, 100_000};
+        String[] distributions = args.length > 2 ? args[2].split(",") : new String[]{"short", "uniform", "full"};
+
+        MicroBenchmark harness = new MicroBenchmark(3, 5, 200);
+        Random random = new Random(42);
+
+        System.out.println("RangeSumQuery benchmarks (3 warmup + 5 measurement iterations of 200 ms)");
+        for (int n : sizes) {
+            int[] A = new int[n];
+            for (int i = 0; i < n; i++) {
+                A[i] = random.nextInt(2001) - 1000;
+            }
+            PrefixSumIndex index = new PrefixSumIndex(A);
+            LazySegmentTree segmentTree = new LazySegmentTree(A);
+
+            for (int q : queryCounts) {
+                for (String distribution : distributions) {
+                    int[][] B = queries(random, n, q, distribution);
+                    long[] out = new long[q];
+                    long scanned = 0;
+                    for (int[] query : B) {
+                        scanned += query[1] - query[0] + 1;
+                    }
+
+                    System.out.println();
+                    System.out.printf("N = %,d, Q = %,d, dist = %s%n", n, q, distribution);
+                    MicroBenchmark.printHeader();
+                    for (String method : new String[]{"brute", "optimized", "fenwick", "auto"}) {
+                        if (method.equals("brute") && scanned > BRUTE_SCAN_LIMIT) {
+                            System.out.printf("%-40s (skipped: %,d elements per batch)%n", method, scanned);
+                            continue;
+                        }
+                        MicroBenchmark.print(harness.run(method, () -> {
+                            RangeSumQuery.rangeSumQuery(A, B, method, out);
+                            return out[0];
+                        }));
+                    }
+                    MicroBenchmark.print(harness.run("prebuilt index", () -> {
+                        index.sumsInto(B, out);
+                        return out[0];
+                    }));
+                    MicroBenchmark.print(harness.run("lazy segment tree", () -> {
+                        segmentTree.sumsInto(B, out);
+                        return out[0];
+                    }));
+                }
+            }
+        }
+    }
+
+    private static int[][] queries(Random random, int n, int q, String distribution) {
+        int[][] B = new int[q][];
+        for (int i = 0; i < q; i++) {
+            switch (distribution) {
+                case "short": {
+                    int length = 1 + random.nextInt(Math.min(64, n));
+                    int L = random.nextInt(n - length + 1);
+                    B[i] = new int[]{L, L + length - 1};
+                    break;
+                }
+                case "uniform": {
+                    int L = random.nextInt(n);
+                    B[i] = new int[]{L, L + random.nextInt(n - L)};
+                    break;
+                }
+                case "full":
+                    B[i] = new int[]{0, n - 1};
+                    break;
+                default:
+                    throw new IllegalArgumentException("Distribution must be one of 'short', 'uniform' or 'full'");
+            }
+        }
+        return B;
+    }
+
+    private static int[] parseInts(String list) {
+        String[] parts = list.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim().replace("_", ""));
+        }
+        return values;
+    }
+}
@@ -11,22 +11,122 @@ import java.util.List;
  */
 public class RangeSumQuery {
     
+    /**
+     * Scanned-to-span ratio at which building a prefix array starts to beat
+     * brute force. The "auto" method uses brute force while the total
+     * scanned length stays below this multiple of the span the queries
+     * touch. The value is the median crossover reported by
+     * AutoMethodCalibration, which times auto's own sequential span build
+     * (medians of 1.4 to 2.3 over four runs). It is not the raw per-element
+     * cost ratio, which ignores the per-range overhead of brute force and
+     * overstates the crossover. Full-span batches on multi-core machines
+     * build with PrefixSumIndex's parallel scan instead, which is cheaper,
+     * so there the constant errs towards brute force.
+     */
+    static final double AUTO_BUILD_COST = 1.7;
+    
     /**
      * Calculates the sum of all elements from L to R indices in the A array (0-indexed)
      * 
+     * Sums are computed exactly in long and narrowed to int, so sums outside
+     * the int range wrap around. Use {@link #rangeSumQueryExact} to reject
+     * them, or the long[] variants to keep the full value.
+     * 
      * @param A      array of integers
      * @param B      2D integer array with the query limits [L, R]
-     * @param method "brute" or "optimized"
+     * @param method "brute", "optimized", "fenwick" or "auto"
      * @return list of sums for each query
      * @throws IllegalArgumentException for invalid inputs
      */
     public static List<Integer> rangeSumQuery(int[] A, int[][] B, String method) {
-        // Check for malformed inputs
+        long[] out = new long[B == null ? 0 : B.length];
+        rangeSumQuery(A, B, method, out);
+        return toIntList(out);
+    }
+    
+    /**
+     * Checked variant of {@link #rangeSumQuery(int[], int[][], String)}: fails
+     * instead of returning a wrapped-around sum.
+     * 
+     * @param A      array of integers
+     * @param B      2D integer array with the query limits [L, R]
+     * @param method "brute", "optimized", "fenwick" or "auto"
+     * @return list of sums for each query
+     * @throws IllegalArgumentException for invalid inputs
+     * @throws ArithmeticException if any sum does not fit in an int
+     */
+    public static List<Integer> rangeSumQueryExact(int[] A, int[][] B, String method) {
+        long[] out = new long[B == null ? 0 : B.length];
+        rangeSumQuery(A, B, method, out);
+        
+        List<Integer> results = new ArrayList<>(out.length);
+        for (long rangeSum : out) {
+            results.add(Math.toIntExact(rangeSum));
+        }
+        return results;
+    }
+    
+    /**
+     * Boxing-free variant: writes the sum of each query into a caller-supplied array.
+     * Reusing {@code out} across batches keeps the hot path free of per-query allocations.
+     * Sums over an int[] always fit in a long (at most 2^31 × 2^31 = 2^62), so
+     * these results are exact; see {@link WidePrefixSumIndex} for long[] inputs.
+     * 
+     * @param A      array of integers
+     * @param B      2D integer array with the query limits [L, R]
+     * @param method "brute", "optimized", "fenwick" or "auto"
+     * @param out    destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for invalid inputs or an output array shorter than B
+     */
+    public static void rangeSumQuery(int[] A, int[][] B, String method, long[] out) {
+        validate(A, B);
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+        
+        // Method selection
+        String normalizedMethod = method.toLowerCase().trim();
+        switch (normalizedMethod) {
+            case "brute":
+                bruteForceRSQ(A, B, out);
+                break;
+            case "optimized":
+                optimizedRSQ(A, B, out);
+                break;
+            case "fenwick":
+                fenwickRSQ(A, B, out);
+                break;
+            case "auto":
+                autoRSQ(A, B, out);
+                break;
+            default:
+                throw new IllegalArgumentException("Method must be one of 'brute', 'optimized', 'fenwick' or 'auto'");
+        }
+    }
+    
+    /**
+     * Boxing-free variant returning a freshly allocated primitive array.
+     * 
+     * @param A      array of integers
+     * @param B      2D integer array with the query limits [L, R]
+     * @param method "brute", "optimized", "fenwick" or "auto"
+     * @return array of sums for each query
+     * @throws IllegalArgumentException for invalid inputs
+     */
+    public static long[] rangeSumQueryAsLongs(int[] A, int[][] B, String method) {
+        long[] out = new long[B == null ? 0 : B.length];
+        rangeSumQuery(A, B, method, out);
+        return out;
+    }
+    
+    /**
+     * Checks for malformed inputs and out-of-range queries
+     */
+    private static void validate(int[] A, int[][] B) {
         if (A == null || A.length == 0 || B == null || B.length == 0) {
             throw new IllegalArgumentException("Input Arrays A and B cannot be empty");
         }
         
-        // Validate queries
         for (int[] query : B) {
             if (query.length != 2) {
                 throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
@@ -38,17 +138,17 @@ public class RangeSumQuery {
                 );
             }
         }
-        
-        // Method selection
-        String normalizedMethod = method.toLowerCase().trim();
-        switch (normalizedMethod) {
-            case "brute":
-                return bruteForceRSQ(A, B);
-            case "optimized":
-                return optimizedRSQ(A, B);
-            default:
-                throw new IllegalArgumentException("Method must be either 'brute' or 'optimized'");
+    }
+    
+    /**
+     * Adapts primitive results to the original List<Integer> API
+     */
+    private static List<Integer> toIntList(long[] sums) {
+        List<Integer> results = new ArrayList<>(sums.length);
+        for (long rangeSum : sums) {
+            results.add((int) rangeSum);
         }
+        return results;
     }
     
     /**
@@ -56,25 +156,21 @@ public class RangeSumQuery {
      * Time Complexity: O(N × Q) where N = array length, Q = number of queries
      * Space Complexity: O(1)
      * 
-     * @param A input array
-     * @param B queries array
-     * @return list of range sums
+     * @param A   input array
+     * @param B   queries array
+     * @param out destination for the range sums
      */
-    private static List<Integer> bruteForceRSQ(int[] A, int[][] B) {
-        List<Integer> results = new ArrayList<>();
-        
-        for (int[] query : B) {
-            int L = query[0], R = query[1];
-            int rangeSum = 0;
+    private static void bruteForceRSQ(int[] A, int[][] B, long[] out) {
+        for (int q = 0; q < B.length; q++) {
+            int L = B[q][0], R = B[q][1];
+            long rangeSum = 0;
             
             for (int i = L; i <= R; i++) {
                 rangeSum += A[i];
             }
             
-            results.add(rangeSum);
+            out[q] = rangeSum;
         }
-        
-        return results;
     }
     
     /**
@@ -84,29 +180,115 @@ public class RangeSumQuery {
      * 
      * Key insight: sum[L:R] = prefix[R+1] - prefix[L]
      * 
-     * @param A input array
-     * @param B queries array
-     * @return list of range sums
+     * @param A   input array
+     * @param B   queries array
+     * @param out destination for the range sums
      */
-    private static List<Integer> optimizedRSQ(int[] A, int[][] B) {
-        int n = A.length;
-        
+    private static void optimizedRSQ(int[] A, int[][] B, long[] out) {
         // Build prefix sum array where prefix[i] = sum of first i elements
-        long[] prefix = new long[n + 1];
-        for (int i = 0; i < n; i++) {
-            prefix[i + 1] = prefix[i] + A[i];
-        }
+        PrefixSumIndex index = new PrefixSumIndex(A);
         
-        List<Integer> results = new ArrayList<>();
+        // Sum from L to R (inclusive) = prefix[R+1] - prefix[L]
+        index.sumsInto(B, out);
+    }
+    
+    /**
+     * Fenwick tree approach: O(N) bulk construction, O(log N) per query.
+     * Slower than prefix sums for a single static batch, but the same tree
+     * also supports point updates; see {@link FenwickTree} for mixed workloads.
+     * Time Complexity: O(N + Q log N) where N = array length, Q = number of queries
+     * Space Complexity: O(N) for the tree
+     * 
+     * @param A   input array
+     * @param B   queries array
+     * @param out destination for the range sums
+     */
+    private static void fenwickRSQ(int[] A, int[][] B, long[] out) {
+        new FenwickTree(A).sumsInto(B, out);
+    }
+    
+    /**
+     * Adaptive approach: estimates the work of each method from the batch and
+     * runs the cheaper one.
+     * - Brute force scans Σ(R - L + 1) elements.
+     * - A prefix array only needs to cover the span [min L, max R] the
+     *   queries touch, costing AUTO_BUILD_COST per slot of that span.
+     * Few, short queries go to brute force; everything else goes to
+     * spanPrefixRSQ.
+     * Time Complexity: O(Q + min(Σ(R - L + 1), span + Q))
+     * Space Complexity: O(1) for brute force, O(span) for the prefix
+     * 
+     * @param A   input array
+     * @param B   queries array
+     * @param out destination for the range sums
+     */
+    private static void autoRSQ(int[] A, int[][] B, long[] out) {
+        long scanned = 0;
+        int minL = A.length, maxR = -1;
+        for (int[] query : B) {
+            scanned += query[1] - query[0] + 1;
+            minL = Math.min(minL, query[0]);
+            maxR = Math.max(maxR, query[1]);
+        }
         
+        if (scanned <= AUTO_BUILD_COST * (maxR - minL + 1)) {
+            bruteForceRSQ(A, B, out);
+        } else {
+            spanPrefixRSQ(A, B, out, minL, maxR);
+        }
+    }
+    
+    /**
+     * The prefix branch of "auto", exposed so AutoMethodCalibration can time
+     * exactly what auto runs. Builds a prefix array over the span
+     * [min L, max R] only. When the queries reach both ends of the array it
+     * uses PrefixSumIndex instead, like "optimized", so that large arrays get
+     * its parallel build.
+     * Time Complexity: O(span + Q)
+     * Space Complexity: O(span)
+     * 
+     * @param A   input array
+     * @param B   validated queries array
+     * @param out destination for the range sums
+     */
+    static void spanPrefixRSQ(int[] A, int[][] B, long[] out) {
+        int minL = A.length, maxR = -1;
         for (int[] query : B) {
-            int L = query[0], R = query[1];
-            // Sum from L to R (inclusive) = prefix[R+1] - prefix[L]
-            long rangeSum = prefix[R + 1] - prefix[L];
-            results.add((int) rangeSum);
+            minL = Math.min(minL, query[0]);
+            maxR = Math.max(maxR, query[1]);
+        }
+        spanPrefixRSQ(A, B, out, minL, maxR);
+    }
+    
+    private static void spanPrefixRSQ(int[] A, int[][] B, long[] out, int minL, int maxR) {
+        int span = maxR - minL + 1;
+        if (span == A.length) {
+            optimizedRSQ(A, B, out);
+            return;
         }
         
-        return results;
+        // Partial prefix: prefix[i] = sum of A[minL .. minL + i - 1]
+        long[] prefix = new long[span + 1];
+        for (int i = 0; i < span; i++) {
+            prefix[i + 1] = prefix[i] + A[minL + i];
+        }
+        for (int q = 0; q < B.length; q++) {
+            out[q] = prefix[B[q][1] + 1 - minL] - prefix[B[q][0] - minL];
+        }
+    }
+    
+    /**
+     * Answers queries against a prebuilt index, skipping the O(N) preprocessing.
+     * Use this when the same array serves many query batches.
+     * Time Complexity: O(Q) where Q = number of queries
+     * 
+     * @param index prefix sum index built once from the input array
+     * @param B     queries array
+     * @return list of range sums
+     * @throws IllegalArgumentException for invalid inputs
+     */
+    public static List<Integer> rangeSumQuery(PrefixSumIndex index, int[][] B) {
+        return toIntList(index.sums(B));
     }
     
     /**
@@ -129,6 +311,8 @@ public class RangeSumQuery {
         System.out.println("Queries: " + Arrays.deepToString(B1));
         System.out.println("Brute force result: " + rangeSumQuery(A1, B1, "brute"));
         System.out.println("Optimized result: " + rangeSumQuery(A1, B1, "optimized"));
+        System.out.println("Fenwick result: " + rangeSumQuery(A1, B1, "fenwick"));
+        System.out.println("Auto result: " + rangeSumQuery(A1, B1, "auto"));
         System.out.println("Expected: [10, 5]");
         System.out.println();
         
@@ -141,9 +325,50 @@ public class RangeSumQuery {
         System.out.println("Queries: " + Arrays.deepToString(B2));
         System.out.println("Brute force result: " + rangeSumQuery(A2, B2, "brute"));
         System.out.println("Optimized result: " + rangeSumQuery(A2, B2, "optimized"));
+        System.out.println("Fenwick result: " + rangeSumQuery(A2, B2, "fenwick"));
+        System.out.println("Auto result: " + rangeSumQuery(A2, B2, "auto"));
         System.out.println("Expected: [2, 4]");
         System.out.println();
         
+        // Test case 3: prebuilt index reused across batches
+        PrefixSumIndex index = new PrefixSumIndex(A1);
+        
+        System.out.println("Test case 3 (prebuilt index):");
+        System.out.println("Array: " + Arrays.toString(A1));
+        System.out.println("Batch 1 result: " + rangeSumQuery(index, B1));
+        System.out.println("Batch 2 result: " + rangeSumQuery(index, B2));
+        System.out.println("Expected: [10, 5] and [1, 5]");
+        System.out.println();
+        
+        // Test case 4: primitive results written into a reused buffer
+        long[] buffer = new long[B1.length];
+        rangeSumQuery(A1, B1, "optimized", buffer);
+        
+        System.out.println("Test case 4 (primitive output):");
+        System.out.println("Array: " + Arrays.toString(A1));
+        System.out.println("Queries: " + Arrays.deepToString(B1));
+        System.out.println("Result: " + Arrays.toString(buffer));
+        System.out.println("Expected: [10, 5]");
+        System.out.println();
+        
+        // Test case 5: sums beyond the int range
+        int[] A5 = {Integer.MAX_VALUE, Integer.MAX_VALUE};
+        int[][] B5 = {{0, 1}};
+        
+        System.out.println("Test case 5 (int overflow):");
+        System.out.println("Array: " + Arrays.toString(A5));
+        System.out.println("Queries: " + Arrays.deepToString(B5));
+        System.out.println("Long result: " + Arrays.toString(rangeSumQueryAsLongs(A5, B5, "brute")));
+        System.out.println("Expected: [4294967294]");
+        try {
+            rangeSumQueryExact(A5, B5, "optimized");
+            System.out.println("Exact result: no exception");
+        } catch (ArithmeticException e) {
+            System.out.println("Exact result: ArithmeticException");
+        }
+        System.out.println("Expected: ArithmeticException");
+        System.out.println();
+        
         // Performance comparison for larger input
         System.out.println("Performance comparison:");
         int[] largeArray = new int[10000];
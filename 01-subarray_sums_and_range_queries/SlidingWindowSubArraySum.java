@@ -0,0 +1,187 @@
+import java.util.Random;
+
+/**
+ * Day 1: Subarray Sums
+ * Sliding-Window Total of All Subarray Sums
+ *
+ * Tracks the sum of all subarray sums over the last W elements of a stream.
+ * Recomputing contribution_technique on every tick costs O(W); this engine
+ * updates the total in O(1) as one element enters and the oldest leaves.
+ *
+ * With a window of w elements at positions j = 0..w-1, the contribution
+ * weight (j+1) * (w-j) expands to -j² + (w-1)j + w, so
+ *   total = -S2 + (w-1) * S1 + w * S0
+ * where S0 = Σ a_j, S1 = Σ j * a_j and S2 = Σ j² * a_j. Appending at
+ * position w adds x, w * x and w² * x to the three moments. Evicting a_0
+ * shifts every remaining position down by one:
+ *   S0' = S0 - a_0
+ *   S1' = S1 - S0'
+ *   S2' = S2 - 2 * S1 + S0'
+ * The window itself lives in a primitive ring buffer allocated once, so
+ * ticks allocate nothing. These are ring identities, so the long moments
+ * stay exact modulo 2^64 and the total is exact whenever it fits in a long.
+ * Instances are mutable and not thread-safe; guard them externally when sharing.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class SlidingWindowSubArraySum {
+
+    // Ring buffer: the window is window[head], window[head + 1], ... (mod capacity)
+    private final int[] window;
+    private int head;
+    private int size;
+    // Moments of the window: Σ a_j, Σ j * a_j, Σ j² * a_j with j = position in the window
+    private long s0;
+    private long s1;
+    private long s2;
+
+    /**
+     * Creates an empty window.
+     * Space Complexity: O(W)
+     *
+     * @param capacity window length W
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public SlidingWindowSubArraySum(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Window capacity must be positive");
+        }
+        window = new int[capacity];
+    }
+
+    /**
+     * Appends one element, evicting the oldest once the window is full.
+     * Time Complexity: O(1)
+     *
+     * @param value element entering the window
+     */
+    public void push(int value) {
+        if (size == window.length) {
+            int evicted = window[head];
+            s0 -= evicted;
+            s2 += s0 - 2 * s1;
+            s1 -= s0;
+            head = head + 1 == window.length ? 0 : head + 1;
+            size--;
+        }
+
+        int tail = head + size;
+        window[tail >= window.length ? tail - window.length : tail] = value;
+        long position = size;
+        s0 += value;
+        s1 += position * value;
+        s2 += position * position * value;
+        size++;
+    }
+
+    /**
+     * Time Complexity: O(1)
+     *
+     * @return sum of all subarray sums of the elements currently in the window
+     */
+    public long total() {
+        long w = size;
+        return -s2 + (w - 1) * s1 + w * s0;
+    }
+
+    /**
+     * @return sum of the elements currently in the window
+     */
+    public long sum() {
+        return s0;
+    }
+
+    /**
+     * @return number of elements currently in the window, at most capacity()
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return window length W
+     */
+    public int capacity() {
+        return window.length;
+    }
+
+    /**
+     * Copies the window contents, oldest first.
+     * Time Complexity: O(W)
+     *
+     * @return new array holding the current window
+     */
+    public int[] toArray() {
+        int[] contents = new int[size];
+        for (int j = 0; j < size; j++) {
+            int index = head + j;
+            contents[j] = window[index >= window.length ? index - window.length : index];
+        }
+        return contents;
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: window of 3 over the stream 1, 2, 3, 4
+        SlidingWindowSubArraySum sliding = new SlidingWindowSubArraySum(3);
+        System.out.println("Test case 1:");
+        for (int value : new int[]{1, 2, 3, 4}) {
+            sliding.push(value);
+            System.out.println("After push(" + value + "): total = " + sliding.total());
+        }
+        System.out.println("Expected: 1, 6, 20, 30");
+        System.out.println();
+
+        // Randomized check against cached_contribution on every window, including int overflow territory
+        Random random = new Random(42);
+        boolean allMatch = true;
+        for (int capacity : new int[]{1, 2, 7, 64, 1000}) {
+            SlidingWindowSubArraySum checked = new SlidingWindowSubArraySum(capacity);
+            for (int tick = 0; tick < 5000; tick++) {
+                checked.push(random.nextInt());
+                allMatch &= checked.total() == SubArraySum.SubarraySum.cached_contribution(checked.toArray());
+            }
+        }
+        System.out.println("Randomized check against cached_contribution on every window:");
+        System.out.println("Results match: " + allMatch);
+        System.out.println();
+
+        // Performance comparison: O(1) sliding update vs O(W) recomputation per tick
+        int capacity = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int ticks = 200_000;
+        int[] stream = new int[ticks];
+        for (int i = 0; i < ticks; i++) {
+            stream[i] = random.nextInt(2001) - 1000;
+        }
+        long slidingTime = Long.MAX_VALUE, recomputeTime = Long.MAX_VALUE;
+        long sink = 0;
+        for (int round = 0; round < 5; round++) {
+            SlidingWindowSubArraySum engine = new SlidingWindowSubArraySum(capacity);
+            long startTime = System.nanoTime();
+            for (int value : stream) {
+                engine.push(value);
+                sink += engine.total();
+            }
+            slidingTime = Math.min(slidingTime, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            for (int t = capacity; t <= ticks; t++) {
+                long total = 0;
+                for (int k = 0; k < capacity; k++) {
+                    total += stream[t - capacity + k] * ((long) (k + 1) * (capacity - k));
+                }
+                sink += total;
+            }
+            recomputeTime = Math.min(recomputeTime, System.nanoTime() - startTime);
+        }
+
+        System.out.println("Performance comparison (W = " + capacity + ", " + ticks + " ticks):");
+        System.out.printf("Sliding window: %.2f ms (%.2f ns per tick)%n",
+            slidingTime / 1_000_000.0, (double) slidingTime / ticks);
+        System.out.printf("Recompute per window: %.2f ms%n", recomputeTime / 1_000_000.0);
+        System.out.println("(checksum " + sink + ")");
+    }
+}
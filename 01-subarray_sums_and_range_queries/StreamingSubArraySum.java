@@ -0,0 +1,139 @@
+import java.util.Random;
+
+/**
+ * Day 1: Subarray Sums
+ * Online Total of All Subarray Sums
+ *
+ * SubarraySum.contribution_technique needs the whole array up front, because
+ * the weight (k+1) * (n-k) of every element depends on the final length n.
+ * This accumulator keeps the total up to date as elements arrive instead.
+ * Appending x as element number n + 1 adds exactly the new subarrays that end
+ * at x. Their sums total
+ *   ending' = ending + (n + 1) * x
+ * where ending is the total of the subarrays ending at the previous element,
+ * so the overall total grows by ending'. Both running values take O(1) time
+ * and memory per append, and no element is retained.
+ *
+ * Arithmetic is in long and wraps on overflow, like the other long-typed
+ * solutions in this folder. Instances are mutable and not thread-safe; guard
+ * them externally when sharing.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class StreamingSubArraySum {
+
+    // Number of elements appended so far
+    private long count;
+    // Sum of all subarrays ending at the last appended element
+    private long ending;
+    // Sum of all subarray sums of the elements appended so far
+    private long total;
+
+    /**
+     * Appends one element.
+     * Time Complexity: O(1)
+     *
+     * @param value element to append
+     */
+    public void append(int value) {
+        count++;
+        ending += count * value;
+        total += ending;
+    }
+
+    /**
+     * Appends every element of values, in order.
+     * Time Complexity: O(K) where K = values.length
+     *
+     * @param values elements to append
+     * @throws IllegalArgumentException if values is null
+     */
+    public void appendAll(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values array cannot be null");
+        }
+
+        for (int value : values) {
+            append(value);
+        }
+    }
+
+    /**
+     * @return sum of all subarray sums of the elements appended so far
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * @return number of elements appended so far
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Forgets every element, as if newly created.
+     */
+    public void reset() {
+        count = 0;
+        ending = 0;
+        total = 0;
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: appending 1, 2, 3 one at a time
+        StreamingSubArraySum stream = new StreamingSubArraySum();
+        System.out.println("Test case 1:");
+        for (int value : new int[]{1, 2, 3}) {
+            stream.append(value);
+            System.out.println("After append(" + value + "): total = " + stream.total());
+        }
+        System.out.println("Expected: 1, 6, 20");
+        System.out.println();
+
+        // Test case 2: mixed signs
+        stream.reset();
+        stream.appendAll(new int[]{-1, 2, -3});
+        System.out.println("Test case 2:");
+        System.out.println("Total of [-1, 2, -3]: " + stream.total());
+        System.out.println("Expected: -4");
+        System.out.println();
+
+        // Randomized check: the running total matches the batch algorithm on every prefix
+        Random random = new Random(42);
+        int n = 2000;
+        int[] values = new int[n];
+        stream.reset();
+        boolean allMatch = true;
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(2001) - 1000;
+            stream.append(values[i]);
+            int[] prefix = new int[i + 1];
+            System.arraycopy(values, 0, prefix, 0, i + 1);
+            allMatch &= stream.total() == SubArraySum.SubarraySum.cached_contribution(prefix);
+        }
+        System.out.println("Randomized check against cached_contribution on every prefix:");
+        System.out.println("Results match: " + allMatch);
+        System.out.println();
+
+        // Throughput: per-append cost on a long stream
+        int streamLength = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            stream.reset();
+            long startTime = System.nanoTime();
+            for (int i = 0; i < streamLength; i++) {
+                stream.append((i % 2001) - 1000);
+            }
+            best = Math.min(best, System.nanoTime() - startTime);
+        }
+        System.out.println("Streaming performance (" + streamLength + " appends):");
+        System.out.printf("Total: %d, time: %.2f ms (%.2f ns per append)%n",
+            stream.total(), best / 1_000_000.0, (double) best / streamLength);
+    }
+}
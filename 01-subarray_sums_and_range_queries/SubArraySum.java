@@ -1,3 +1,6 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 /**
  * Day 1: Subarray Sums & Range Queries
  * Java Implementation
@@ -16,6 +19,7 @@ public class SubArraySum{
         System.out.println("=".repeat(50));
         
         runTests();
+        runParallelCheck();
     }
     
     /**
@@ -49,7 +53,9 @@ public class SubArraySum{
             "optimized_brute_force", 
             "contribution_technique",
             "vectorized_contribution",
-            "vector_half_contribution"
+            "vector_half_contribution",
+            "cached_contribution",
+            "parallel_contribution"
         };
         
         int totalTests = 0;
@@ -74,6 +80,29 @@ public class SubArraySum{
         System.out.println(passedTests == totalTests ? "🎉 All tests passed!" : "💥 Some tests failed!");
     }
     
+    /**
+     * Forces the fork-join path of parallel_contribution on an array above
+     * the threshold and compares it with the sequential result
+     */
+    private static void runParallelCheck() {
+        int n = SubarraySum.PARALLEL_THRESHOLD * 3 + 12345;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = (i % 2001) - 1000;
+        }
+
+        long sequential = SubarraySum.parallel_contribution(arr, false);
+        long parallel = SubarraySum.parallel_contribution(arr, true);
+        System.out.println("\n📋 Parallel check (" + n + " elements, "
+            + Runtime.getRuntime().availableProcessors() + " cores):");
+        if (parallel == sequential && parallel == SubarraySum.cached_contribution(arr)) {
+            System.out.println("✅ parallel_contribution matches sequential: " + parallel);
+        } else {
+            System.out.println("❌ parallel_contribution: expected " + sequential + ", got " + parallel);
+            System.exit(1);
+        }
+    }
+
     /**
      * Helper method to run specific algorithm by name
      */
@@ -89,6 +118,10 @@ public class SubArraySum{
                 return SubarraySum.vectorized_contribution(arr);
             case "vector_half_contribution":
                 return SubarraySum.vector_half_contribution(arr);
+            case "cached_contribution":
+                return (int) SubarraySum.cached_contribution(arr);
+            case "parallel_contribution":
+                return (int) SubarraySum.parallel_contribution(arr);
             default:
                 throw new IllegalArgumentException("Unknown algorithm: " + algorithmName);
         }
@@ -114,6 +147,15 @@ public class SubArraySum{
      */
     public static class SubarraySum {
 
+        /**
+         * Arrays at least this long are summed in parallel by
+         * parallel_contribution; below it the fork-join overhead outweighs the gain
+         */
+        static final int PARALLEL_THRESHOLD = 1 << 20;
+
+        // Chunk length each fork-join leaf sums sequentially
+        private static final int PARALLEL_CHUNK = 1 << 16;
+
         /**
          * Naive brute force approach - O(n³) time complexity
          * Generates all subarrays and calculates their sums
@@ -169,68 +211,128 @@ public class SubArraySum{
 
         /**
          * Vectorized contribution approach - O(n) time complexity
-         * Precomputes contribution values then calculates final sum
+         * Reads precomputed contribution values from the shared weight cache,
+         * so repeated calls on same-length arrays allocate nothing. Sums in
+         * long and narrows at the end, which gives the same wrapped int
+         * result as int arithmetic throughout.
          */
         public static int vectorized_contribution(int[] arr) {
             int n = arr.length;
             
             if (n == 0) return 0;
             
-            // Precompute contribution values for each position
-            int[] contributions = new int[n];
-            for (int i = 0; i < n; i++) {
-                contributions[i] = (i + 1) * (n - i);
-            }
+            // Contribution values for each position, cached per length
+            long[] contributions = ContributionWeights.shared().weights(n);
             
             // Calculate total sum using contributions
-            int totalSum = 0;
+            long totalSum = 0;
             for (int i = 0; i < n; i++) {
                 totalSum += arr[i] * contributions[i];
             }
             
-            return totalSum;
+            return (int) totalSum;
         }
         
         /**
          * Vector half contribution approach - O(n) time complexity
-         * Uses symmetric property of contributions to compute only half
+         * Uses symmetric property of contributions: position k and its mirror
+         * n-1-k share a weight, so only the first half of the cached table is read
          */
         public static int vector_half_contribution(int[] arr) {
             int n = arr.length;
             
             if (n == 0) return 0;
             
-            int m = (n + 1) / 2; // ceiling division
+            int m = n / 2;
+            long[] contributions = ContributionWeights.shared().weights(n);
             
-            // Compute first half of contributions
-            int[] firstHalf = new int[m];
+            // Pair each element with its mirror, which has the same contribution
+            long totalSum = 0;
             for (int k = 0; k < m; k++) {
-                firstHalf[k] = (k + 1) * (n - k);
+                totalSum += ((long) arr[k] + arr[n - 1 - k]) * contributions[k];
             }
             
-            // Create mirror based on array length parity
-            int[] contributions = new int[n];
-            System.arraycopy(firstHalf, 0, contributions, 0, m);
-            
-            if (n % 2 == 0) {
-                // Even length: mirror entire first half
-                for (int i = 0; i < m; i++) {
-                    contributions[m + i] = firstHalf[m - 1 - i];
-                }
-            } else {
-                // Odd length: mirror all except center element
-                for (int i = 0; i < m - 1; i++) {
-                    contributions[m + i] = firstHalf[m - 2 - i];
-                }
+            // Odd length: the center element has no mirror
+            if (n % 2 == 1) {
+                totalSum += arr[m] * contributions[m];
             }
             
-            // Calculate total sum using contributions
-            int totalSum = 0;
-            for (int i = 0; i < n; i++) {
-                totalSum += arr[i] * contributions[i];
+            return (int) totalSum;
+        }
+
+        /**
+         * Cached contribution approach - O(n) time complexity
+         * Long-typed counterpart of vectorized_contribution: reuses a shared
+         * weight table per array length, so repeated calls on same-length
+         * arrays allocate nothing, and returns the full long sum.
+         */
+        public static long cached_contribution(int[] arr) {
+            return ContributionWeights.shared().dot(arr);
+        }
+
+        /**
+         * Parallel contribution approach - O(n) work, O(n / P) span on P cores
+         * Splits the array into fork-join chunks, each summing
+         * arr[k] * (k+1) * (n-k) with closed-form weights, and adds the
+         * partial sums back up the fixed split tree. Long addition is exact
+         * (and wraps the same way in any order), so the result does not
+         * depend on scheduling. Arrays shorter than PARALLEL_THRESHOLD, or
+         * a single core, use one sequential pass.
+         */
+        public static long parallel_contribution(int[] arr) {
+            return parallel_contribution(arr, arr.length >= PARALLEL_THRESHOLD
+                && Runtime.getRuntime().availableProcessors() > 1);
+        }
+
+        /**
+         * Parallel contribution, explicitly choosing the sequential or fork-join path
+         */
+        static long parallel_contribution(int[] arr, boolean parallel) {
+            if (!parallel) {
+                return weightedSum(arr, 0, arr.length);
+            }
+            return ForkJoinPool.commonPool().invoke(new ContributionTask(arr, 0, arr.length));
+        }
+
+        /**
+         * Sum of arr[k] * (k+1) * (n-k) over k in [from, to)
+         */
+        private static long weightedSum(int[] arr, int from, int to) {
+            long n = arr.length;
+            long totalSum = 0;
+            for (int k = from; k < to; k++) {
+                totalSum += arr[k] * ((k + 1) * (n - k));
             }
-            
             return totalSum;
         }
+
+        /**
+         * Fork-join task summing the contributions of arr[from, to)
+         */
+        private static class ContributionTask extends RecursiveTask<Long> {
+            private static final long serialVersionUID = 1L;
+
+            private final int[] arr;
+            private final int from;
+            private final int to;
+
+            ContributionTask(int[] arr, int from, int to) {
+                this.arr = arr;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected Long compute() {
+                if (to - from <= PARALLEL_CHUNK) {
+                    return weightedSum(arr, from, to);
+                }
+                int mid = (from + to) >>> 1;
+                ContributionTask left = new ContributionTask(arr, from, mid);
+                left.fork();
+                long right = new ContributionTask(arr, mid, to).compute();
+                return left.join() + right;
+            }
+        }
     }
 }
@@ -0,0 +1,107 @@
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+/**
+ * Day 1: Subarray Sums
+ * Benchmark Suite for the SubArraySum Algorithms
+ *
+ * Compares the SubArraySum.SubarraySum implementations with the
+ * MicroBenchmark harness over every combination of:
+ *   n    - array length
+ *   dist - element values: "ones" (all 1), "small" (0-9) or "mixed" (-1000..1000)
+ * The bytes-per-op column shows what each algorithm allocates per call. The
+ * three table-based versions (vectorized_contribution,
+ * vector_half_contribution and cached_contribution) read a shared table from
+ * ContributionWeights and allocate nothing once warmed up.
+ * The cubic and quadratic brute-force versions are skipped once their
+ * element operations per call would exceed OPERATION_LIMIT.
+ *
+ * Usage: java SubArraySumBenchmark [n,n,...] [dist,dist,...]
+ *   e.g. java SubArraySumBenchmark 100,10000,1000000 small,mixed
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public class SubArraySumBenchmark {
+
+    private static final double OPERATION_LIMIT = 1e8;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? parseInts(args[0]) : new int[]{100, 1_000, 100_000, 1_000_000};
+        String[] distributions = args.length > 1 ? args[1].split(",") : new String[]{"small", "mixed"};
+
+        MicroBenchmark harness = new MicroBenchmark(3, 5, 200);
+        Random random = new Random(42);
+
+        String[] names = {
+            "naive_brute_force",
+            "optimized_brute_force",
+            "contribution_technique",
+            "vectorized_contribution",
+            "vector_half_contribution",
+            "cached_contribution",
+            "parallel_contribution"
+        };
+        List<ToLongFunction<int[]>> algorithms = List.of(
+            SubArraySum.SubarraySum::naive_brute_force,
+            SubArraySum.SubarraySum::optimized_brute_force,
+            SubArraySum.SubarraySum::contribution_technique,
+            SubArraySum.SubarraySum::vectorized_contribution,
+            SubArraySum.SubarraySum::vector_half_contribution,
+            SubArraySum.SubarraySum::cached_contribution,
+            SubArraySum.SubarraySum::parallel_contribution
+        );
+        // Element operations per call as a function of n, used to skip hopeless runs
+        int[] exponents = {3, 2, 1, 1, 1, 1, 1};
+
+        System.out.println("SubArraySum benchmarks (3 warmup + 5 measurement iterations of 200 ms)");
+        for (int n : sizes) {
+            for (String distribution : distributions) {
+                int[] arr = values(random, n, distribution);
+
+                System.out.println();
+                System.out.printf("n = %,d, dist = %s%n", n, distribution);
+                MicroBenchmark.printHeader();
+                for (int a = 0; a < algorithms.size(); a++) {
+                    double operations = Math.pow(n, exponents[a]) / (exponents[a] == 3 ? 6 : 1);
+                    if (operations > OPERATION_LIMIT) {
+                        System.out.printf("%-40s (skipped: ~%.1e operations per call)%n", names[a], operations);
+                        continue;
+                    }
+                    ToLongFunction<int[]> algorithm = algorithms.get(a);
+                    MicroBenchmark.print(harness.run(names[a], () -> algorithm.applyAsLong(arr)));
+                }
+            }
+        }
+    }
+
+    private static int[] values(Random random, int n, String distribution) {
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            switch (distribution) {
+                case "ones":
+                    arr[i] = 1;
+                    break;
+                case "small":
+                    arr[i] = random.nextInt(10);
+                    break;
+                case "mixed":
+                    arr[i] = random.nextInt(2001) - 1000;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Distribution must be one of 'ones', 'small' or 'mixed'");
+            }
+        }
+        return arr;
+    }
+
+    private static int[] parseInts(String list) {
+        String[] parts = list.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim().replace("_", ""));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,281 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Subarray Sums & Range Queries
+ * Segment Tree for the Sum of All Subarray Sums in [L, R]
+ *
+ * Dynamic counterpart of RangeSubArraySumIndex: the all-subarrays total of
+ * any window [L, R], with point updates, both in O(log N). For its segment
+ * a[0..len-1], each node stores
+ *   sum            Σ a_k
+ *   leftWeighted   Σ (k + 1) * a_k      (sum of all suffix sums)
+ *   rightWeighted  Σ (len - k) * a_k    (sum of all prefix sums)
+ *   total          sum of all subarray sums
+ * Joining a left segment A to a right segment B:
+ *   total         = A.total + B.total + B.len * A.leftWeighted + A.len * B.rightWeighted
+ *   leftWeighted  = A.leftWeighted + B.leftWeighted + A.len * B.sum
+ *   rightWeighted = A.rightWeighted + B.rightWeighted + B.len * A.sum
+ * The cross term counts each subarray that starts in A and ends in B: every
+ * suffix of A pairs with all B.len prefixes of B, and vice versa. The join
+ * is not commutative, so queries fold the covering nodes strictly left to
+ * right. Lengths come from the node bounds, so they are not stored.
+ *
+ * Arithmetic is in long and exact modulo 2^64. Instances are mutable and not
+ * thread-safe, queries included (they fold into instance fields to avoid
+ * allocating); guard them externally when sharing.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class SubArraySumSegmentTree {
+
+    private final int n;
+    private final long[] sum;
+    private final long[] leftWeighted;
+    private final long[] rightWeighted;
+    private final long[] total;
+
+    // Running fold of a query: the covering nodes seen so far, joined left to right
+    private long foldLength;
+    private long foldSum;
+    private long foldLeftWeighted;
+    private long foldRightWeighted;
+    private long foldTotal;
+
+    /**
+     * Builds the tree from the given array.
+     * Time Complexity: O(N)
+     * Space Complexity: O(N), sixteen longs per element
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public SubArraySumSegmentTree(int[] A) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        n = A.length;
+        sum = new long[4 * n];
+        leftWeighted = new long[4 * n];
+        rightWeighted = new long[4 * n];
+        total = new long[4 * n];
+        build(A, 1, 0, n - 1);
+    }
+
+    /**
+     * @return number of elements in the tree
+     */
+    public int length() {
+        return n;
+    }
+
+    /**
+     * Replaces the element at index i.
+     * Time Complexity: O(log N)
+     *
+     * @param i     element index (0-indexed)
+     * @param value new value
+     * @throws IllegalArgumentException if i is out of bounds
+     */
+    public void set(int i, long value) {
+        if (i < 0 || i >= n) {
+            throw new IllegalArgumentException(
+                String.format("Invalid index %d for array of length %d", i, n)
+            );
+        }
+        set(1, 0, n - 1, i, value);
+    }
+
+    /**
+     * Sum of all subarray sums of A[L..R] (inclusive, 0-indexed).
+     * Time Complexity: O(log N)
+     *
+     * @param L left index
+     * @param R right index
+     * @return total of every subarray sum inside the window
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public long total(int L, int R) {
+        if (L < 0 || R >= n || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, n)
+            );
+        }
+
+        foldLength = 0;
+        foldSum = 0;
+        foldLeftWeighted = 0;
+        foldRightWeighted = 0;
+        foldTotal = 0;
+        query(1, 0, n - 1, L, R);
+        return foldTotal;
+    }
+
+    /**
+     * Answers a batch of queries into a caller-supplied array.
+     * Time Complexity: O(Q log N) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[q] receives the total of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void totalsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            out[q] = total(query[0], query[1]);
+        }
+    }
+
+    private void build(int[] A, int node, int lo, int hi) {
+        if (lo == hi) {
+            setLeaf(node, A[lo]);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(A, 2 * node, lo, mid);
+        build(A, 2 * node + 1, mid + 1, hi);
+        pull(node, mid - lo + 1, hi - mid);
+    }
+
+    private void set(int node, int lo, int hi, int i, long value) {
+        if (lo == hi) {
+            setLeaf(node, value);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (i <= mid) {
+            set(2 * node, lo, mid, i, value);
+        } else {
+            set(2 * node + 1, mid + 1, hi, i, value);
+        }
+        pull(node, mid - lo + 1, hi - mid);
+    }
+
+    /**
+     * Folds the nodes covering [L, R] into the running fold, left to right
+     */
+    private void query(int node, int lo, int hi, int L, int R) {
+        if (R < lo || hi < L) {
+            return;
+        }
+        if (L <= lo && hi <= R) {
+            long length = hi - lo + 1;
+            foldTotal += total[node] + length * foldLeftWeighted + foldLength * rightWeighted[node];
+            foldLeftWeighted += leftWeighted[node] + foldLength * sum[node];
+            foldRightWeighted += rightWeighted[node] + length * foldSum;
+            foldSum += sum[node];
+            foldLength += length;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        query(2 * node, lo, mid, L, R);
+        query(2 * node + 1, mid + 1, hi, L, R);
+    }
+
+    private void setLeaf(int node, long value) {
+        sum[node] = value;
+        leftWeighted[node] = value;
+        rightWeighted[node] = value;
+        total[node] = value;
+    }
+
+    /**
+     * Joins the two children of node, whose segments hold leftLength and rightLength elements
+     */
+    private void pull(int node, long leftLength, long rightLength) {
+        int a = 2 * node, b = 2 * node + 1;
+        total[node] = total[a] + total[b] + rightLength * leftWeighted[a] + leftLength * rightWeighted[b];
+        leftWeighted[node] = leftWeighted[a] + leftWeighted[b] + leftLength * sum[b];
+        rightWeighted[node] = rightWeighted[a] + rightWeighted[b] + rightLength * sum[a];
+        sum[node] = sum[a] + sum[b];
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3, 4, 5] with windows [[0, 2], [1, 3], [0, 4], [2, 2]]
+        SubArraySumSegmentTree tree = new SubArraySumSegmentTree(new int[]{1, 2, 3, 4, 5});
+        int[][] B = {{0, 2}, {1, 3}, {0, 4}, {2, 2}};
+        long[] out = new long[B.length];
+
+        tree.totalsInto(B, out);
+        System.out.println("Test case 1:");
+        System.out.println("Queries: " + Arrays.deepToString(B));
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [20, 30, 105, 3]");
+        System.out.println();
+
+        // Test case 2: updates are reflected without rebuilding
+        tree.set(1, -2);   // [1, -2, 3, 4, 5]
+        tree.totalsInto(B, out);
+        System.out.println("Test case 2 (after set(1, -2)):");
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [4, 18, 73, 3]");
+        System.out.println();
+
+        // Mixed update/query workload checked against RangeSubArraySumIndex rebuilt from a plain array
+        Random random = new Random(42);
+        int[] plain = new int[1000];
+        for (int i = 0; i < plain.length; i++) {
+            plain[i] = random.nextInt();
+        }
+        SubArraySumSegmentTree checked = new SubArraySumSegmentTree(plain);
+        boolean allMatch = true;
+        for (int step = 0; step < 2000; step++) {
+            int i = random.nextInt(plain.length);
+            plain[i] = random.nextInt();
+            checked.set(i, plain[i]);
+            RangeSubArraySumIndex reference = new RangeSubArraySumIndex(plain);
+            for (int q = 0; q < 10; q++) {
+                int L = random.nextInt(plain.length);
+                int R = L + random.nextInt(plain.length - L);
+                allMatch &= checked.total(L, R) == reference.total(L, R);
+            }
+        }
+        System.out.println("Randomized check against a rebuilt RangeSubArraySumIndex:");
+        System.out.println("Results match: " + allMatch);
+        System.out.println();
+
+        // Performance: interleaved updates and window queries
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int operations = 1_000_000;
+        int[] A = new int[n];
+        for (int i = 0; i < n; i++) {
+            A[i] = random.nextInt(2001) - 1000;
+        }
+        long startTime = System.nanoTime();
+        SubArraySumSegmentTree large = new SubArraySumSegmentTree(A);
+        long buildTime = System.nanoTime() - startTime;
+
+        long sink = 0;
+        startTime = System.nanoTime();
+        for (int op = 0; op < operations; op++) {
+            int L = random.nextInt(n);
+            if ((op & 1) == 0) {
+                large.set(L, random.nextInt(2001) - 1000);
+            } else {
+                sink += large.total(L, L + random.nextInt(n - L));
+            }
+        }
+        long operationTime = System.nanoTime() - startTime;
+
+        System.out.println("Performance (" + n + " elements, " + operations + " updates and queries):");
+        System.out.printf("Build: %.2f ms%n", buildTime / 1_000_000.0);
+        System.out.printf("Operations: %.2f ms (%.2f μs per operation)%n",
+            operationTime / 1_000_000.0, operationTime / 1_000.0 / operations);
+        System.out.println("(checksum " + sink + ")");
+    }
+}
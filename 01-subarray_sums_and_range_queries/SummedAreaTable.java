@@ -0,0 +1,255 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Day 1: Range Sum Queries
+ * 2D Summed-Area Table
+ *
+ * The two-dimensional version of the prefix sum: table[r][c] holds the sum
+ * of every cell above and to the left of (r, c), so any rectangle sum is
+ * four lookups by inclusion-exclusion:
+ *
+ *   sum(r1, c1, r2, c2) = T[r2+1][c2+1] - T[r1][c2+1] - T[r2+1][c1] + T[r1][c1]
+ *
+ * The table is stored flat in row-major order with one row and one column
+ * of zero padding. Instances are immutable and safe to share between threads.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class SummedAreaTable {
+
+    private final int rows;
+    private final int cols;
+    // table[r * (cols + 1) + c] = sum of grid cells [0, r) x [0, c)
+    private final long[] table;
+
+    private SummedAreaTable(int rows, int cols, long[] table) {
+        this.rows = rows;
+        this.cols = cols;
+        this.table = table;
+    }
+
+    /**
+     * Builds the table from a rectangular grid.
+     * Time Complexity: O(R × C)
+     * Space Complexity: O(R × C)
+     *
+     * @param grid rectangular grid of integers
+     * @return summed-area table
+     * @throws IllegalArgumentException if the grid is empty or ragged
+     */
+    public static SummedAreaTable of(int[][] grid) {
+        if (grid == null || grid.length == 0 || grid[0] == null || grid[0].length == 0) {
+            throw new IllegalArgumentException("Input grid cannot be empty");
+        }
+        int rows = grid.length, cols = grid[0].length;
+        for (int[] row : grid) {
+            if (row == null || row.length != cols) {
+                throw new IllegalArgumentException("All grid rows must have the same length");
+            }
+        }
+        return build(rows, cols, (r, c) -> grid[r][c]);
+    }
+
+    /**
+     * Builds the table from a flat row-major buffer.
+     * Time Complexity: O(R × C)
+     * Space Complexity: O(R × C)
+     *
+     * @param data row-major cells, data[r * cols + c] = cell (r, c)
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return summed-area table
+     * @throws IllegalArgumentException if the dimensions do not match the buffer
+     */
+    public static SummedAreaTable ofRowMajor(int[] data, int rows, int cols) {
+        if (data == null || rows <= 0 || cols <= 0 || (long) rows * cols != data.length) {
+            throw new IllegalArgumentException("Buffer length must equal rows × cols, both positive");
+        }
+        return build(rows, cols, (r, c) -> data[r * cols + c]);
+    }
+
+    /**
+     * Cell accessor so both input layouts share one build
+     */
+    private interface Cells {
+        int get(int r, int c);
+    }
+
+    /**
+     * Two passes: prefix sums along every row, then down every column. Rows
+     * in the first pass and column stripes in the second are independent,
+     * so large grids run both passes in parallel.
+     */
+    private static SummedAreaTable build(int rows, int cols, Cells cells) {
+        int width = cols + 1;
+        if ((long) (rows + 1) * width > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grid is too large for a single table");
+        }
+        long[] table = new long[(rows + 1) * width];
+        boolean parallel = (long) rows * cols >= PrefixSumIndex.PARALLEL_THRESHOLD
+            && Runtime.getRuntime().availableProcessors() > 1;
+
+        // Pass 1: row prefix sums
+        IntStream rowRange = IntStream.rangeClosed(1, rows);
+        (parallel ? rowRange.parallel() : rowRange).forEach(r -> {
+            int base = r * width;
+            long runningSum = 0;
+            for (int c = 1; c <= cols; c++) {
+                runningSum += cells.get(r - 1, c - 1);
+                table[base + c] = runningSum;
+            }
+        });
+
+        // Pass 2: column prefix sums, walking rows in order within each stripe of columns
+        int stripe = 512;
+        IntStream stripeRange = IntStream.range(0, (cols + stripe - 1) / stripe);
+        (parallel ? stripeRange.parallel() : stripeRange).forEach(s -> {
+            int from = 1 + s * stripe, to = Math.min(cols, from + stripe - 1);
+            for (int r = 2; r <= rows; r++) {
+                int base = r * width, above = base - width;
+                for (int c = from; c <= to; c++) {
+                    table[base + c] += table[above + c];
+                }
+            }
+        });
+
+        return new SummedAreaTable(rows, cols, table);
+    }
+
+    /**
+     * @return number of grid rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return number of grid columns
+     */
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * Sum of the rectangle with corners (r1, c1) and (r2, c2), inclusive.
+     * Time Complexity: O(1)
+     *
+     * @param r1 top row
+     * @param c1 left column
+     * @param r2 bottom row
+     * @param c2 right column
+     * @return rectangle sum
+     * @throws IllegalArgumentException for an invalid rectangle
+     */
+    public long sum(int r1, int c1, int r2, int c2) {
+        if (r1 < 0 || c1 < 0 || r2 >= rows || c2 >= cols || r1 > r2 || c1 > c2) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d, %d, %d] for %d x %d grid", r1, c1, r2, c2, rows, cols)
+            );
+        }
+        int width = cols + 1;
+        int top = r1 * width, bottom = (r2 + 1) * width;
+        return table[bottom + c2 + 1] - table[top + c2 + 1] - table[bottom + c1] + table[top + c1];
+    }
+
+    /**
+     * Answers a batch of rectangle queries into a caller-supplied array.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [r1, c1, r2, c2]
+     * @param out destination array, out[q] receives the sum of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than B
+     */
+    public void sumsInto(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < B.length) {
+            throw new IllegalArgumentException("Output array must hold at least one slot per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 4) {
+                throw new IllegalArgumentException("Each query must have exactly 4 elements [r1, c1, r2, c2]");
+            }
+            out[q] = sum(query[0], query[1], query[2], query[3]);
+        }
+    }
+
+    /**
+     * Rectangle counterpart of RangeSumQuery.rangeSumQuery(A, B).
+     * Time Complexity: O(R × C + Q)
+     *
+     * @param grid rectangular grid of integers
+     * @param B    queries array, each entry [r1, c1, r2, c2]
+     * @return array of rectangle sums, one per query
+     * @throws IllegalArgumentException for invalid inputs
+     */
+    public static long[] rectangleSumQuery(int[][] grid, int[][] B) {
+        long[] out = new long[B == null ? 0 : B.length];
+        of(grid).sumsInto(B, out);
+        return out;
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: 3 x 4 grid
+        int[][] grid = {
+            {1, 2, 3, 4},
+            {5, 6, 7, 8},
+            {9, 10, 11, 12}
+        };
+        int[][] B = {{0, 0, 2, 3}, {1, 1, 2, 2}, {0, 3, 2, 3}};
+
+        System.out.println("Test case 1:");
+        System.out.println("Grid: " + Arrays.deepToString(grid));
+        System.out.println("Queries: " + Arrays.deepToString(B));
+        System.out.println("Result: " + Arrays.toString(rectangleSumQuery(grid, B)));
+        System.out.println("Expected: [78, 34, 24]");
+        System.out.println();
+
+        // Test case 2: same grid from a flat row-major buffer
+        int[] flat = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12};
+        long[] out = new long[B.length];
+        ofRowMajor(flat, 3, 4).sumsInto(B, out);
+
+        System.out.println("Test case 2 (row-major buffer):");
+        System.out.println("Result: " + Arrays.toString(out));
+        System.out.println("Expected: [78, 34, 24]");
+        System.out.println();
+
+        // Large grid checked against brute force on random rectangles
+        int rows = 2000, cols = 3000;
+        int[] cells = new int[rows * cols];
+        Random random = new Random(42);
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = random.nextInt(2001) - 1000;
+        }
+
+        long startTime = System.nanoTime();
+        SummedAreaTable large = ofRowMajor(cells, rows, cols);
+        long buildTime = System.nanoTime() - startTime;
+
+        boolean allMatch = true;
+        for (int q = 0; q < 200; q++) {
+            int r1 = random.nextInt(rows), c1 = random.nextInt(cols);
+            int r2 = r1 + random.nextInt(rows - r1), c2 = c1 + random.nextInt(cols - c1);
+            long expected = 0;
+            for (int r = r1; r <= r2; r++) {
+                for (int c = c1; c <= c2; c++) {
+                    expected += cells[r * cols + c];
+                }
+            }
+            allMatch &= large.sum(r1, c1, r2, c2) == expected;
+        }
+        System.out.println("Large grid (" + rows + " x " + cols + "):");
+        System.out.printf("Build time: %.2f ms%n", buildTime / 1_000_000.0);
+        System.out.println("Results match: " + allMatch);
+    }
+}
@@ -0,0 +1,156 @@
+import java.util.Arrays;
+import java.util.Random;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Day 1: Subarray Sums
+ * SIMD Contribution Kernel using the Java Vector API
+ *
+ * Vectorized version of the weighted dot product in
+ * SubarraySum.contribution_technique, sum of arr[k] * (k+1) * (n-k). The
+ * weights are generated in registers instead of being read from an array.
+ * Two long vectors hold (k+1) and (n-k) for the current lanes, starting
+ * from an iota vector, and each step moves them by the lane count. Ints are
+ * widened to long lanes and accumulated there, so the result matches the
+ * scalar long arithmetic exactly. When the hardware offers fewer than two
+ * long lanes, or -Dsas.vector=false is set, the kernel falls back to a
+ * scalar loop.
+ *
+ * The Vector API is an incubator module, so this file is compiled and run
+ * separately from the other solutions:
+ *   javac --add-modules jdk.incubator.vector VectorSubArraySum.java
+ *   java --add-modules jdk.incubator.vector VectorSubArraySum
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class VectorSubArraySum {
+
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * True when the SIMD kernel is in use, false when running the scalar fallback
+     */
+    public static final boolean ENABLED = LONG_SPECIES.length() >= 2
+        && Boolean.parseBoolean(System.getProperty("sas.vector", "true"));
+
+    // Int species with the same lane count as LONG_SPECIES, so one int load widens to one long vector
+    private static final VectorSpecies<Integer> INT_SPECIES = ENABLED
+        ? IntVector.SPECIES_64.withShape(VectorShape.forBitSize(LONG_SPECIES.vectorBitSize() / 2))
+        : IntVector.SPECIES_64;
+
+    private VectorSubArraySum() {
+    }
+
+    /**
+     * Sum of all subarray sums: sum of arr[k] * (k+1) * (n-k).
+     * Time Complexity: O(n)
+     * Space Complexity: O(1), no weight array
+     *
+     * @param arr input array
+     * @return total of all subarray sums, wrapping modulo 2^64 like the scalar long loop
+     */
+    public static long contribution(int[] arr) {
+        int n = arr.length;
+        long totalSum = 0;
+        int k = 0;
+        if (ENABLED) {
+            int lanes = LONG_SPECIES.length();
+            int upperBound = n - n % lanes;
+            LongVector iota = LongVector.zero(LONG_SPECIES).addIndex(1);
+            LongVector left = iota.add(1);                     // k + 1 per lane
+            LongVector right = iota.neg().add(n);              // n - k per lane
+            LongVector accumulator = LongVector.zero(LONG_SPECIES);
+            for (; k < upperBound; k += lanes) {
+                accumulator = accumulator.add(widen(arr, k).mul(left).mul(right));
+                left = left.add(lanes);
+                right = right.sub(lanes);
+            }
+            totalSum = accumulator.reduceLanes(VectorOperators.ADD);
+        }
+        for (; k < n; k++) {
+            totalSum += arr[k] * ((long) (k + 1) * (n - k));
+        }
+        return totalSum;
+    }
+
+    /**
+     * Loads lanes-many ints starting at offset and widens them to a long vector
+     */
+    private static LongVector widen(int[] arr, int offset) {
+        return (LongVector) IntVector.fromArray(INT_SPECIES, arr, offset)
+            .convertShape(VectorOperators.I2L, LONG_SPECIES, 0);
+    }
+
+    /**
+     * Scalar reference: the same long arithmetic without SIMD
+     */
+    private static long scalarContribution(int[] arr) {
+        int n = arr.length;
+        long totalSum = 0;
+        for (int k = 0; k < n; k++) {
+            totalSum += arr[k] * ((long) (k + 1) * (n - k));
+        }
+        return totalSum;
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        System.out.println("SIMD enabled: " + ENABLED + " (" + LONG_SPECIES.length() + " long lanes)");
+        System.out.println();
+
+        // Test cases from SubArraySum, including lengths below one vector
+        int[][] inputs = {{1, 2, 3}, {2, 1, 3}, {5}, {}, {-1, 2, -3}, {3, 3, 3}, {1, 2, 3, 4, 5, 6, 7, 8, 9}};
+        long[] expected = {20, 19, 5, 0, -4, 30, 825};
+        for (int t = 0; t < inputs.length; t++) {
+            System.out.println("Test case " + (t + 1) + ": " + Arrays.toString(inputs[t])
+                + " -> " + contribution(inputs[t]) + " (expected " + expected[t] + ")");
+        }
+        System.out.println();
+
+        // Randomized check against the scalar loop, including int overflow territory
+        Random random = new Random(42);
+        boolean allMatch = true;
+        for (int t = 0; t < 200; t++) {
+            int[] arr = new int[random.nextInt(5000)];
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt();
+            }
+            allMatch &= contribution(arr) == scalarContribution(arr);
+        }
+        int[] large = new int[args.length > 0 ? Integer.parseInt(args[0]) : 10_000_003];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = random.nextInt(2001) - 1000;
+        }
+        allMatch &= contribution(large) == scalarContribution(large);
+        System.out.println("Randomized check against scalar loop:");
+        System.out.println("Results match: " + allMatch);
+        System.out.println();
+
+        // Performance comparison: scalar vs SIMD
+        System.out.println("Performance comparison (" + large.length + " elements):");
+        long scalarTime = Long.MAX_VALUE, vectorTime = Long.MAX_VALUE;
+        long sink = 0;
+        for (int round = 0; round < 20; round++) {
+            long startTime = System.nanoTime();
+            sink += scalarContribution(large);
+            scalarTime = Math.min(scalarTime, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            sink += contribution(large);
+            vectorTime = Math.min(vectorTime, System.nanoTime() - startTime);
+        }
+
+        System.out.printf("Scalar contribution: %.2f ms%n", scalarTime / 1_000_000.0);
+        System.out.printf("SIMD contribution: %.2f ms (%.2fx)%n",
+            vectorTime / 1_000_000.0, (double) scalarTime / vectorTime);
+        System.out.println("(checksum " + sink + ")");
+    }
+}
@@ -0,0 +1,240 @@
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Day 1: Range Sum Queries
+ * 128-bit Prefix Index for long[] Inputs
+ *
+ * Prefix sums over long values can exceed the long range after just two
+ * elements, so this index keeps every prefix as a signed 128-bit integer
+ * split into a high and a low word. Range sums are 128-bit differences,
+ * which are exact for any array of up to 2^63 elements. Carries and borrows
+ * are derived from the sign bits with plain bitwise logic, so the hot
+ * paths have no data-dependent branches and allocate nothing.
+ *
+ * Three result modes:
+ *   sum128   - full 128-bit result written as a (high, low) pair
+ *   sumExact - the sum as a long, or ArithmeticException if it does not fit
+ *   sum      - the low 64 bits, matching plain long arithmetic (wraps around)
+ *
+ * Instances are immutable and safe to share between threads.
+ *
+ * Author: Andres
+ * Date: October 2026
+ */
+public final class WidePrefixSumIndex {
+
+    // prefix[i] = sum of the first i elements as (prefixHigh[i] << 64) + unsigned prefixLow[i]
+    private final long[] prefixHigh;
+    private final long[] prefixLow;
+
+    /**
+     * Builds the index from the given array.
+     * Time Complexity: O(N)
+     * Space Complexity: O(N), two longs per prefix
+     *
+     * @param A input array
+     * @throws IllegalArgumentException if A is null or empty
+     */
+    public WidePrefixSumIndex(long[] A) {
+        if (A == null || A.length == 0) {
+            throw new IllegalArgumentException("Input Array A cannot be empty");
+        }
+
+        int n = A.length;
+        prefixHigh = new long[n + 1];
+        prefixLow = new long[n + 1];
+        long high = 0, low = 0;
+        for (int i = 0; i < n; i++) {
+            long value = A[i];
+            long sumLow = low + value;
+            // Sign-extend value to 128 bits (value >> 63) and add the carry out of the low word
+            high += (value >> 63) + carry(low, value, sumLow);
+            low = sumLow;
+            prefixHigh[i + 1] = high;
+            prefixLow[i + 1] = low;
+        }
+    }
+
+    /**
+     * @return number of elements covered by the index
+     */
+    public int length() {
+        return prefixLow.length - 1;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed) as a 128-bit value.
+     * Time Complexity: O(1)
+     *
+     * @param L      left index
+     * @param R      right index
+     * @param out    destination, receives the high word at offset and the low word at offset + 1
+     * @param offset position in out to write to
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public void sum128(int L, int R, long[] out, int offset) {
+        checkRange(L, R);
+        long aLow = prefixLow[R + 1], bLow = prefixLow[L];
+        long low = aLow - bLow;
+        out[offset] = prefixHigh[R + 1] - prefixHigh[L] - borrow(aLow, bLow, low);
+        out[offset + 1] = low;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed), checked to fit in a long.
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return range sum
+     * @throws IllegalArgumentException for an invalid range
+     * @throws ArithmeticException if the sum does not fit in a long
+     */
+    public long sumExact(int L, int R) {
+        checkRange(L, R);
+        long aLow = prefixLow[R + 1], bLow = prefixLow[L];
+        long low = aLow - bLow;
+        long high = prefixHigh[R + 1] - prefixHigh[L] - borrow(aLow, bLow, low);
+        // A 128-bit value fits in a long exactly when its high word is the sign extension of the low word
+        if (high != low >> 63) {
+            throw new ArithmeticException(
+                String.format("Sum of [%d, %d] overflows long", L, R)
+            );
+        }
+        return low;
+    }
+
+    /**
+     * Sum of the elements from L to R (inclusive, 0-indexed), modulo 2^64.
+     * Time Complexity: O(1)
+     *
+     * @param L left index
+     * @param R right index
+     * @return low 64 bits of the range sum
+     * @throws IllegalArgumentException for an invalid range
+     */
+    public long sum(int L, int R) {
+        checkRange(L, R);
+        return prefixLow[R + 1] - prefixLow[L];
+    }
+
+    /**
+     * Answers a batch of queries as 128-bit values into a caller-supplied array.
+     * Time Complexity: O(Q) where Q = number of queries
+     *
+     * @param B   queries array, each entry [L, R]
+     * @param out destination array, out[2q] and out[2q + 1] receive the high and low words of query B[q]
+     * @throws IllegalArgumentException for malformed queries or an output array shorter than 2 × B
+     */
+    public void sums128Into(int[][] B, long[] out) {
+        if (B == null || B.length == 0) {
+            throw new IllegalArgumentException("Input Array B cannot be empty");
+        }
+        if (out == null || out.length < 2L * B.length) {
+            throw new IllegalArgumentException("Output array must hold two slots per query");
+        }
+
+        for (int q = 0; q < B.length; q++) {
+            int[] query = B[q];
+            if (query.length != 2) {
+                throw new IllegalArgumentException("Each query must have exactly 2 elements [L, R]");
+            }
+            sum128(query[0], query[1], out, 2 * q);
+        }
+    }
+
+    /**
+     * Converts a (high, low) pair to a BigInteger, for display and verification only.
+     *
+     * @param high high word, signed
+     * @param low  low word, unsigned
+     * @return the 128-bit value
+     */
+    public static BigInteger toBigInteger(long high, long low) {
+        return BigInteger.valueOf(high).shiftLeft(64).add(new BigInteger(Long.toUnsignedString(low)));
+    }
+
+    /**
+     * Carry out of the unsigned addition a + b = sum: 1 when both top bits are
+     * set, or when either is set and the top bit of the sum is clear
+     */
+    private static long carry(long a, long b, long sum) {
+        return ((a & b) | ((a | b) & ~sum)) >>> 63;
+    }
+
+    /**
+     * Borrow out of the unsigned subtraction a - b = difference
+     */
+    private static long borrow(long a, long b, long difference) {
+        return ((~a & b) | (~(a ^ b) & difference)) >>> 63;
+    }
+
+    private void checkRange(int L, int R) {
+        if (L < 0 || R >= length() || L > R) {
+            throw new IllegalArgumentException(
+                String.format("Invalid query [%d, %d] for array of length %d", L, R, length())
+            );
+        }
+    }
+
+    /**
+     * Test cases and demonstration
+     */
+    public static void main(String[] args) {
+        // Test case 1: [1, 2, 3, 4, 5] with queries [[0, 3], [1, 2]]
+        WidePrefixSumIndex small = new WidePrefixSumIndex(new long[]{1, 2, 3, 4, 5});
+
+        System.out.println("Test case 1:");
+        System.out.println("Exact sums [0, 3], [1, 2]: " + small.sumExact(0, 3) + ", " + small.sumExact(1, 2));
+        System.out.println("Expected: 10, 5");
+        System.out.println();
+
+        // Test case 2: sums beyond the long range
+        long[] A2 = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, 7};
+        WidePrefixSumIndex wide = new WidePrefixSumIndex(A2);
+        int[][] B2 = {{0, 1}, {0, 3}, {2, 3}};
+        long[] out = new long[2 * B2.length];
+        wide.sums128Into(B2, out);
+
+        System.out.println("Test case 2 (long overflow):");
+        System.out.println("Array: " + Arrays.toString(A2));
+        System.out.println("Queries: " + Arrays.deepToString(B2));
+        System.out.println("128-bit results: " + toBigInteger(out[0], out[1]) + ", "
+            + toBigInteger(out[2], out[3]) + ", " + toBigInteger(out[4], out[5]));
+        System.out.println("Expected: 18446744073709551614, 9223372036854775813, -9223372036854775801");
+        try {
+            wide.sumExact(0, 1);
+            System.out.println("Exact result: no exception");
+        } catch (ArithmeticException e) {
+            System.out.println("Exact result: ArithmeticException");
+        }
+        System.out.println("Expected: ArithmeticException");
+        System.out.println();
+
+        // Randomized check against BigInteger on extreme values
+        Random random = new Random(42);
+        long[] A = new long[10_000];
+        for (int i = 0; i < A.length; i++) {
+            A[i] = random.nextBoolean() ? random.nextLong() : (random.nextBoolean() ? Long.MAX_VALUE : Long.MIN_VALUE);
+        }
+        BigInteger[] reference = new BigInteger[A.length + 1];
+        reference[0] = BigInteger.ZERO;
+        for (int i = 0; i < A.length; i++) {
+            reference[i + 1] = reference[i].add(BigInteger.valueOf(A[i]));
+        }
+        WidePrefixSumIndex index = new WidePrefixSumIndex(A);
+
+        boolean allMatch = true;
+        long[] pair = new long[2];
+        for (int q = 0; q < 100_000; q++) {
+            int L = random.nextInt(A.length);
+            int R = L + random.nextInt(A.length - L);
+            index.sum128(L, R, pair, 0);
+            allMatch &= toBigInteger(pair[0], pair[1]).equals(reference[R + 1].subtract(reference[L]));
+        }
+        System.out.println("Randomized check against BigInteger:");
+        System.out.println("Results match: " + allMatch);
+    }
+}